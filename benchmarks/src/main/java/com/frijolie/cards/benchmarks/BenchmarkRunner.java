@@ -0,0 +1,77 @@
+package com.frijolie.cards.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import org.openjdk.jmh.Main;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Runs JMH with the given command line, adding defaults for
+ * anything it does not specify:
+ *
+ * <ul>
+ * <li>{@code -prof gc}, so every benchmark reports the bytes allocated per operation
+ * <li>{@code -rf csv}, a line-oriented format which diffs cleanly between releases
+ * <li>{@code -rff results/<version>.csv}, named after the version of the library under test
+ * </ul>
+ *
+ * <p>Two result files can be compared with {@link ResultsComparison}.
+ */
+public final class BenchmarkRunner {
+
+  /**
+   * The directory which holds the default result files.
+   */
+  private static final String RESULTS_DIRECTORY = "results";
+
+  /**
+   * This class only contains static methods.
+   */
+  private BenchmarkRunner() {
+  }
+
+  /**
+   * Runs the benchmarks.
+   *
+   * @param args the JMH command line
+   * @throws Exception if JMH fails to run
+   */
+  public static void main(String[] args) throws Exception {
+    List<String> options = new ArrayList<>(Arrays.asList(args));
+    if (!options.contains("-prof")) {
+      options.add("-prof");
+      options.add("gc");
+    }
+    if (!options.contains("-rf")) {
+      options.add("-rf");
+      options.add("csv");
+    }
+    if (!options.contains("-rff")) {
+      Path results = Paths.get(RESULTS_DIRECTORY);
+      Files.createDirectories(results);
+      options.add("-rff");
+      options.add(results.resolve(version() + ".csv").toString());
+    }
+    Main.main(options.toArray(new String[0]));
+  }
+
+  /**
+   * Returns the version of the library being benchmarked, as recorded when the jar was built.
+   *
+   * @return the version string
+   * @throws IOException if the version cannot be read
+   */
+  private static String version() throws IOException {
+    Properties properties = new Properties();
+    try (InputStream in = BenchmarkRunner.class.getResourceAsStream("/benchmarks.properties")) {
+      properties.load(in);
+    }
+    return properties.getProperty("version");
+  }
+}
@@ -0,0 +1,100 @@
+package com.frijolie.cards.benchmarks;
+
+import com.frijolie.cards.Card;
+import com.frijolie.cards.Deck;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the comparison methods of the {@link Card} interface. Run with {@code -prof gc} to
+ * confirm that {@code gc.alloc.rate.norm} is zero bytes per operation.
+ *
+ * <p>Each invocation compares a different pair of cards from a shuffled deck, so the JIT cannot
+ * fold the result into a constant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardBenchmark {
+
+  /**
+   * Shuffled cards to compare. The length is a power of two so the index can be masked.
+   */
+  private Card[] cards;
+
+  /**
+   * The index of the next pair to compare.
+   */
+  private int index;
+
+  /**
+   * Fills the card array from shuffled decks.
+   */
+  @Setup
+  public void setUp() {
+    List<Card> deck = new Deck(2, true).getDeck();
+    cards = deck.subList(0, 64).toArray(new Card[0]);
+  }
+
+  /**
+   * Returns the next card, wrapping around the array.
+   *
+   * @return a card from the shuffled array
+   */
+  private Card next() {
+    return cards[index++ & (cards.length - 1)];
+  }
+
+  /**
+   * Measures {@link Card#compareTo(Card)}.
+   *
+   * @return the comparison result
+   */
+  @Benchmark
+  public int compareTo() {
+    return next().compareTo(next());
+  }
+
+  /**
+   * Measures {@link Card#sameColor(Card)}.
+   *
+   * @return the comparison result
+   */
+  @Benchmark
+  public boolean sameColor() {
+    return next().sameColor(next());
+  }
+
+  /**
+   * Measures {@link Card#sameRank(Card)}.
+   *
+   * @return the comparison result
+   */
+  @Benchmark
+  public boolean sameRank() {
+    return next().sameRank(next());
+  }
+
+  /**
+   * Measures {@link Card#sameValue(Card)}.
+   *
+   * @return the comparison result
+   */
+  @Benchmark
+  public boolean sameValue() {
+    return next().sameValue(next());
+  }
+}
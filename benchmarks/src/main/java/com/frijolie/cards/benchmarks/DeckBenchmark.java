@@ -0,0 +1,165 @@
+package com.frijolie.cards.benchmarks;
+
+import com.frijolie.cards.Card;
+import com.frijolie.cards.Deck;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building, copying and shuffling a {@link Deck}, from a single deck up to a large
+ * simulation shoe.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+  /**
+   * The seed of the generators of {@link #eagerDeck} and {@link #lazyDeck}.
+   */
+  private static final long SEED = 42L;
+
+  /**
+   * The number of decks in the shoe.
+   */
+  @Param({"1", "2", "4", "6", "8", "100", "1000"})
+  public int numOfDecks;
+
+  /**
+   * A prebuilt deck, for the benchmarks which do not measure construction.
+   */
+  private Deck deck;
+
+  /**
+   * A prebuilt deck with a seeded generator, to compare with {@link #lazyDeck}.
+   */
+  private Deck eagerDeck;
+
+  /**
+   * A prebuilt lazy deck of the same size, with the same kind of generator and seed.
+   */
+  private Deck lazyDeck;
+
+  /**
+   * A copy of the cards in {@link #deck}, for shuffling.
+   */
+  private List<Card> cards;
+
+  /**
+   * Builds the decks and the copy of the cards.
+   */
+  @Setup
+  public void setUp() {
+    deck = new Deck(numOfDecks, false);
+    cards = deck.getDeck();
+    eagerDeck = new Deck(numOfDecks, new SplittableRandom(SEED));
+    lazyDeck = Deck.lazy(numOfDecks, new SplittableRandom(SEED));
+  }
+
+  /**
+   * Measures {@code new Deck(numOfDecks, false)}.
+   *
+   * @return the new deck
+   */
+  @Benchmark
+  public Deck build() {
+    return new Deck(numOfDecks, false);
+  }
+
+  /**
+   * Measures {@code new Deck(numOfDecks, true)}.
+   *
+   * @return the new deck
+   */
+  @Benchmark
+  public Deck buildShuffled() {
+    return new Deck(numOfDecks, true);
+  }
+
+  /**
+   * Measures {@link Deck#getDeck()}.
+   *
+   * @return the copied list of cards
+   */
+  @Benchmark
+  public List<Card> getDeck() {
+    return deck.getDeck();
+  }
+
+  /**
+   * Measures {@link Deck#shuffle()}, which uses {@link java.util.concurrent.ThreadLocalRandom}.
+   *
+   * @return the shuffled deck
+   */
+  @Benchmark
+  public Deck deckShuffle() {
+    deck.shuffle();
+    return deck;
+  }
+
+  /**
+   * Measures shuffling a reused, seeded deck and dealing ten cards from it, as a simulation trial
+   * does.
+   *
+   * @return the tenth card dealt
+   */
+  @Benchmark
+  public Card shuffleAndDealTen() {
+    return dealTen(eagerDeck);
+  }
+
+  /**
+   * Measures {@link #shuffleAndDealTen()} on a {@link Deck#lazy(int, RandomGenerator) lazy} deck,
+   * which makes one random swap per card dealt instead of shuffling the whole shoe.
+   *
+   * @return the tenth card dealt
+   */
+  @Benchmark
+  public Card lazyShuffleAndDealTen() {
+    return dealTen(lazyDeck);
+  }
+
+  /**
+   * Returns every card to a deck, shuffles it and deals ten cards.
+   *
+   * @param shoe the deck to deal from
+   * @return the tenth card dealt
+   */
+  private static Card dealTen(Deck shoe) {
+    shoe.reset();
+    shoe.shuffle();
+    Card card = null;
+    for (int i = 0; i < 10; i++) {
+      card = shoe.draw();
+    }
+    return card;
+  }
+
+  /**
+   * Measures {@link Collections#shuffle(List)} over the cards of the deck.
+   *
+   * @return the shuffled list of cards
+   */
+  @Benchmark
+  public List<Card> shuffle() {
+    Collections.shuffle(cards);
+    return cards;
+  }
+}
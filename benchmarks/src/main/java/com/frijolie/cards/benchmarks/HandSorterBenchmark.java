@@ -0,0 +1,86 @@
+package com.frijolie.cards.benchmarks;
+
+import com.frijolie.cards.Card;
+import com.frijolie.cards.Deck;
+import com.frijolie.cards.HandSorter;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures sorting a hand with {@link HandSorter} against {@link Arrays#sort(Object[])}, which
+ * compares cards with {@link Card#compareTo(Card)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandSorterBenchmark {
+
+  /**
+   * The number of cards in the hand.
+   */
+  @Param({"5", "13", "52"})
+  public int handSize;
+
+  /**
+   * The sorter, reused for every hand.
+   */
+  private final HandSorter sorter = new HandSorter();
+
+  /**
+   * The unsorted hand.
+   */
+  private Card[] hand;
+
+  /**
+   * The array the hand is sorted into.
+   */
+  private Card[] out;
+
+  /**
+   * Deals the hand from a seeded shuffled deck.
+   */
+  @Setup
+  public void setUp() {
+    hand = new Card[handSize];
+    out = new Card[handSize];
+    new Deck(1, new SplittableRandom(1)).draw(hand, handSize);
+  }
+
+  /**
+   * Measures {@link HandSorter#sortByRank(Card[], int, Card[])}.
+   *
+   * @return the sorted hand
+   */
+  @Benchmark
+  public Card[] sortByRank() {
+    sorter.sortByRank(hand, handSize, out);
+    return out;
+  }
+
+  /**
+   * Measures copying the hand and sorting the copy with {@link Arrays#sort(Object[])}.
+   *
+   * @return the sorted hand
+   */
+  @Benchmark
+  public Card[] arraysSort() {
+    System.arraycopy(hand, 0, out, 0, handSize);
+    Arrays.sort(out);
+    return out;
+  }
+}
@@ -0,0 +1,99 @@
+package com.frijolie.cards.benchmarks;
+
+import com.frijolie.cards.Card;
+import com.frijolie.cards.CardFormat;
+import com.frijolie.cards.Deck;
+import com.frijolie.cards.PlayingCard;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link Object} methods of {@link PlayingCard}, which dominate when cards are used as
+ * keys in hash-based collections or written to logs, and parsing cards back from text.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayingCardBenchmark {
+
+  /**
+   * Shuffled cards to operate on. The length is a power of two so the index can be masked.
+   */
+  private Card[] cards;
+
+  /**
+   * The index of the next card.
+   */
+  private int index;
+
+  /**
+   * Fills the card array from shuffled decks.
+   */
+  @Setup
+  public void setUp() {
+    List<Card> deck = new Deck(2, true).getDeck();
+    cards = deck.subList(0, 64).toArray(new Card[0]);
+  }
+
+  /**
+   * Returns the next card, wrapping around the array.
+   *
+   * @return a card from the shuffled array
+   */
+  private Card next() {
+    return cards[index++ & (cards.length - 1)];
+  }
+
+  /**
+   * Measures {@link PlayingCard#hashCode()}.
+   *
+   * @return the hash code
+   */
+  @Benchmark
+  public int cardHashCode() {
+    return next().hashCode();
+  }
+
+  /**
+   * Measures {@link PlayingCard#equals(Object)}.
+   *
+   * @return the comparison result
+   */
+  @Benchmark
+  public boolean cardEquals() {
+    return next().equals(next());
+  }
+
+  /**
+   * Measures {@link PlayingCard#toString()}.
+   *
+   * @return the string form of the card
+   */
+  @Benchmark
+  public String cardToString() {
+    return next().toString();
+  }
+
+  /**
+   * Measures {@link CardFormat#parse(CharSequence)} of a card's string form.
+   *
+   * @return the parsed card
+   */
+  @Benchmark
+  public Card cardParse() {
+    return CardFormat.parse(next().toString());
+  }
+}
@@ -0,0 +1,68 @@
+package com.frijolie.cards.benchmarks;
+
+import com.frijolie.cards.PokerHandEvaluator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link PokerHandEvaluator#evaluate(long)} over random five and seven card hands.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PokerHandEvaluatorBenchmark {
+
+  /**
+   * The number of cards in each hand.
+   */
+  @Param({"5", "7"})
+  public int cardsPerHand;
+
+  /**
+   * Random hands to evaluate. The length is a power of two so the index can be masked.
+   */
+  private long[] hands;
+
+  /**
+   * The index of the next hand.
+   */
+  private int index;
+
+  /**
+   * Deals the random hands.
+   */
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(1);
+    hands = new long[1 << 12];
+    for (int i = 0; i < hands.length; i++) {
+      while (Long.bitCount(hands[i]) < cardsPerHand) {
+        hands[i] |= 1L << random.nextInt(52);
+      }
+    }
+  }
+
+  /**
+   * Measures a single evaluation.
+   *
+   * @return the strength of the hand
+   */
+  @Benchmark
+  public int evaluate() {
+    return PokerHandEvaluator.evaluate(hands[index++ & (hands.length - 1)]);
+  }
+}
@@ -0,0 +1,191 @@
+package com.frijolie.cards.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two CSV result files written by {@link BenchmarkRunner}, typically the previous release
+ * and the current build. Prints the relative change of every benchmark found in both files, and
+ * exits with status 1 if any of them regressed.
+ *
+ * <p>A timing regresses when it gets worse by more than the threshold percentage, which defaults
+ * to 5. An allocation regresses when it grows by a byte or more per operation, since the expected
+ * value for most benchmarks is zero.
+ *
+ * <p>Usage: {@code java -cp benchmarks.jar com.frijolie.cards.benchmarks.ResultsComparison
+ * baseline.csv candidate.csv [threshold]}
+ */
+public final class ResultsComparison {
+
+  /**
+   * The suffix JMH gives to the bytes allocated per operation, reported by the GC profiler.
+   */
+  private static final String ALLOCATION = ":gc.alloc.rate.norm";
+
+  /**
+   * The default regression threshold, as a percentage.
+   */
+  private static final double DEFAULT_THRESHOLD = 5.0;
+
+  /**
+   * This class only contains static methods.
+   */
+  private ResultsComparison() {
+  }
+
+  /**
+   * Compares the result files.
+   *
+   * @param args the baseline file, the candidate file and an optional threshold percentage
+   * @throws IOException if either file cannot be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: ResultsComparison baseline.csv candidate.csv [threshold]");
+      System.exit(2);
+    }
+    Map<String, Row> baseline = read(args[0]);
+    Map<String, Row> candidate = read(args[1]);
+    double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+    int regressions = 0;
+    for (Map.Entry<String, Row> entry : candidate.entrySet()) {
+      Row before = baseline.get(entry.getKey());
+      if (before == null) {
+        continue;
+      }
+      Row after = entry.getValue();
+      double change = before.score == 0
+          ? 0 : 100.0 * (after.score - before.score) / Math.abs(before.score);
+      boolean regressed = after.isRegressionFrom(before, threshold);
+      if (regressed) {
+        regressions++;
+      }
+      System.out.printf("%-80s %14.3f %14.3f %9.2f%% %s %s%n", entry.getKey(), before.score,
+          after.score, change, after.unit, regressed ? "REGRESSION" : "");
+    }
+    System.out.printf("%d regression(s) above %.1f%%%n", regressions, threshold);
+    if (regressions > 0) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Reads the primary and allocation results of a JMH CSV file, keyed by benchmark and parameters.
+   *
+   * @param file the path of the file
+   * @return the rows of the file, in file order
+   * @throws IOException if the file cannot be read
+   */
+  static Map<String, Row> read(String file) throws IOException {
+    List<String> lines = Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8);
+    List<String> header = split(lines.get(0));
+    Map<String, Row> rows = new LinkedHashMap<>();
+    for (String line : lines.subList(1, lines.size())) {
+      List<String> cells = split(line);
+      String benchmark = cells.get(header.indexOf("Benchmark"));
+      if (benchmark.contains(":") && !benchmark.endsWith(ALLOCATION)) {
+        continue;
+      }
+      StringBuilder key = new StringBuilder(benchmark);
+      for (int i = 0; i < header.size(); i++) {
+        if (header.get(i).startsWith("Param: ") && !cells.get(i).isEmpty()) {
+          key.append(' ').append(header.get(i).substring(7)).append('=').append(cells.get(i));
+        }
+      }
+      String mode = cells.get(header.indexOf("Mode"));
+      rows.put(key.toString(), new Row(
+          Double.parseDouble(cells.get(header.indexOf("Score"))),
+          cells.get(header.indexOf("Unit")),
+          benchmark.endsWith(ALLOCATION),
+          "thrpt".equals(mode) && !benchmark.contains(":")));
+    }
+    return rows;
+  }
+
+  /**
+   * Splits a line of CSV into cells, removing the quotes JMH puts around text.
+   *
+   * @param line the line to split
+   * @return the cells of the line
+   */
+  private static List<String> split(String line) {
+    List<String> cells = new ArrayList<>();
+    StringBuilder cell = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (c == '"') {
+        quoted = !quoted;
+      } else if (c == ',' && !quoted) {
+        cells.add(cell.toString());
+        cell.setLength(0);
+      } else {
+        cell.append(c);
+      }
+    }
+    cells.add(cell.toString());
+    return cells;
+  }
+
+  /**
+   * A single benchmark result.
+   */
+  static final class Row {
+
+    /**
+     * The score of the benchmark.
+     */
+    private final double score;
+
+    /**
+     * The unit of the score.
+     */
+    private final String unit;
+
+    /**
+     * {@code true} if the score is the number of bytes allocated per operation.
+     */
+    private final boolean allocation;
+
+    /**
+     * {@code true} if a higher score is better, as with throughput.
+     */
+    private final boolean higherIsBetter;
+
+    /**
+     * Constructor.
+     *
+     * @param score          the score of the benchmark
+     * @param unit           the unit of the score
+     * @param allocation     {@code true} if the score is bytes per operation
+     * @param higherIsBetter {@code true} if a higher score is better
+     */
+    Row(double score, String unit, boolean allocation, boolean higherIsBetter) {
+      this.score = score;
+      this.unit = unit;
+      this.allocation = allocation;
+      this.higherIsBetter = higherIsBetter;
+    }
+
+    /**
+     * Returns {@code true} if this result is worse than the baseline by more than the threshold.
+     *
+     * @param baseline  the earlier result
+     * @param threshold the allowed change, as a percentage
+     * @return {@code true} if this result regressed
+     */
+    boolean isRegressionFrom(Row baseline, double threshold) {
+      if (allocation) {
+        return score - baseline.score >= 1.0;
+      }
+      double worse = higherIsBetter ? baseline.score - score : score - baseline.score;
+      return worse > Math.abs(baseline.score) * threshold / 100.0;
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.frijolie.cards.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+class CardAllocationTest {
+
+  @Test
+  void testCardComparisons_ShouldAllocateZeroBytesPerCall() throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(CardBenchmark.class.getName())
+        .addProfiler(GCProfiler.class)
+        .warmupIterations(2)
+        .warmupTime(TimeValue.milliseconds(500))
+        .measurementIterations(2)
+        .measurementTime(TimeValue.milliseconds(500))
+        .timeUnit(TimeUnit.NANOSECONDS)
+        .forks(1)
+        .build();
+    Collection<RunResult> results = new Runner(options).run();
+    assertFalse(results.isEmpty(), "The Card benchmarks should have run");
+    for (RunResult result : results) {
+      Result<?> allocated = result.getSecondaryResults().get("gc.alloc.rate.norm");
+      String message = result.getParams().getBenchmark() + " allocated "
+          + allocated.getScore() + " bytes per call";
+      assertTrue(allocated.getScore() < 1.0, message);
+    }
+  }
+}
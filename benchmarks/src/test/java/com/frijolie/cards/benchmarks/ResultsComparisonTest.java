@@ -0,0 +1,54 @@
+package com.frijolie.cards.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultsComparisonTest {
+
+  private static final String HEADER = "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\","
+      + "\"Score Error (99.9%)\",\"Unit\",\"Param: numOfDecks\"";
+
+  @TempDir
+  Path directory;
+
+  private Map<String, ResultsComparison.Row> write(String name, double time, double bytes)
+      throws IOException {
+    Path file = directory.resolve(name);
+    Files.write(file, List.of(HEADER,
+        "\"DeckBenchmark.build\",\"avgt\",1,5," + time + ",0.1,\"us/op\",8",
+        "\"DeckBenchmark.build:gc.alloc.rate\",\"avgt\",1,5,100.0,0.1,\"MB/sec\",8",
+        "\"DeckBenchmark.build:gc.alloc.rate.norm\",\"avgt\",1,5," + bytes + ",0.1,\"B/op\",8"),
+        StandardCharsets.UTF_8);
+    return ResultsComparison.read(file.toString());
+  }
+
+  @Test
+  void testRead_ShouldKeepPrimaryAndAllocationResultsKeyedByParams() throws IOException {
+    Map<String, ResultsComparison.Row> rows = write("a.csv", 10.0, 0.0);
+    String message = "Only the score and allocation rows should be read. Instead: " + rows.keySet();
+    assertEquals(2, rows.size(), message);
+    assertTrue(rows.containsKey("DeckBenchmark.build numOfDecks=8"), message);
+  }
+
+  @Test
+  void testIsRegressionFrom_SlowerOrAllocatingCandidateShouldRegress() throws IOException {
+    Map<String, ResultsComparison.Row> before = write("before.csv", 10.0, 0.0);
+    Map<String, ResultsComparison.Row> same = write("same.csv", 10.2, 0.5);
+    Map<String, ResultsComparison.Row> worse = write("worse.csv", 11.0, 24.0);
+    for (String key : before.keySet()) {
+      assertFalse(same.get(key).isRegressionFrom(before.get(key), 5.0), key);
+      assertTrue(worse.get(key).isRegressionFrom(before.get(key), 5.0), key);
+    }
+  }
+}
@@ -0,0 +1,188 @@
+package com.frijolie.cards;
+
+/**
+ * A blackjack hand which keeps its totals up to date as each card is added, so hitting never
+ * re-sums or re-scans the hand.
+ *
+ * <p>Card values come from {@link Rank#getValue()}, which already scores face cards as 10. An Ace
+ * is counted as 1 in the hard total. If the hand holds an Ace and counting one of them as 11 would
+ * not bust it, the hand is soft and its total is 10 higher.
+ *
+ * <p>Cards may be added as {@link Card}s, {@link Rank}s or {@link IntCard} codes. The code path is
+ * a single table lookup, and no path allocates, so a hand can be {@link #clear() cleared} and
+ * reused for every round of a simulation. A {@code BlackjackHand} is not thread-safe.
+ */
+public class BlackjackHand {
+
+  /**
+   * The highest total which does not bust.
+   */
+  public static final int BLACKJACK = 21;
+
+  /**
+   * The amount by which a soft Ace is worth more than a hard one.
+   */
+  private static final int SOFT_BONUS = Rank.ACE.getValue() - 1;
+
+  /**
+   * The hard value of each card, indexed by {@link IntCard} code.
+   */
+  private static final byte[] HARD_VALUES = new byte[IntCard.COUNT];
+
+  static {
+    for (int code = 0; code < IntCard.COUNT; code++) {
+      HARD_VALUES[code] = (byte) hardValue(IntCard.rank(code));
+    }
+  }
+
+  /**
+   * The total with every Ace counted as 1.
+   */
+  private int hardTotal;
+
+  /**
+   * The number of Aces in the hand.
+   */
+  private int aces;
+
+  /**
+   * The number of cards in the hand.
+   */
+  private int size;
+
+  /**
+   * Default no-arg constructor. Creates an empty hand.
+   */
+  public BlackjackHand() {
+  }
+
+  /**
+   * Adds a card to the hand.
+   *
+   * @param card the card to add
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public void add(Card card) {
+    add(card.getRank());
+  }
+
+  /**
+   * Adds a card with the given {@link Rank} to the hand.
+   *
+   * @param rank the rank of the card
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public void add(Rank rank) {
+    addValue(hardValue(rank));
+  }
+
+  /**
+   * Adds the card with the given code to the hand.
+   *
+   * @param code the card code, from 0 to 51
+   */
+  public void add(int code) {
+    addValue(HARD_VALUES[code]);
+  }
+
+  /**
+   * Removes every card from the hand, so it can be reused.
+   */
+  public void clear() {
+    hardTotal = 0;
+    aces = 0;
+    size = 0;
+  }
+
+  /**
+   * Returns the total with every Ace counted as 1.
+   *
+   * @return the hard total
+   */
+  public int getHardTotal() {
+    return hardTotal;
+  }
+
+  /**
+   * Returns the best total of the hand: the soft total if the hand is soft, otherwise the hard
+   * total.
+   *
+   * @return the total of the hand
+   */
+  public int getTotal() {
+    return isSoft() ? hardTotal + SOFT_BONUS : hardTotal;
+  }
+
+  /**
+   * Returns {@code true} if an Ace can be counted as 11 without busting the hand.
+   *
+   * @return {@code true} if the hand is soft
+   */
+  public boolean isSoft() {
+    return aces > 0 && hardTotal + SOFT_BONUS <= BLACKJACK;
+  }
+
+  /**
+   * Returns {@code true} if the hand totals more than 21.
+   *
+   * @return {@code true} if the hand is bust
+   */
+  public boolean isBust() {
+    return hardTotal > BLACKJACK;
+  }
+
+  /**
+   * Returns {@code true} if the hand is a natural: two cards totalling 21.
+   *
+   * @return {@code true} if the hand is a blackjack
+   */
+  public boolean isBlackjack() {
+    return size == 2 && getTotal() == BLACKJACK;
+  }
+
+  /**
+   * Returns the number of Aces in the hand.
+   *
+   * @return the number of Aces
+   */
+  public int getAceCount() {
+    return aces;
+  }
+
+  /**
+   * Returns the number of cards in the hand.
+   *
+   * @return the number of cards
+   */
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return (isSoft() ? "soft " : "") + getTotal();
+  }
+
+  /**
+   * Updates the totals for a card with the given hard value.
+   *
+   * @param value the hard value of the card, where an Ace is 1
+   */
+  private void addValue(int value) {
+    hardTotal += value;
+    if (value == 1) {
+      aces++;
+    }
+    size++;
+  }
+
+  /**
+   * Returns the value of a rank with an Ace counted as 1.
+   *
+   * @param rank the rank of the card
+   * @return the hard value of the card
+   */
+  private static int hardValue(Rank rank) {
+    return rank == Rank.ACE ? 1 : rank.getValue();
+  }
+}
@@ -1,7 +1,5 @@
 package com.frijolie.cards;
 
-import static java.util.Comparator.comparing;
-
 import java.util.Objects;
 
 /**
@@ -52,9 +50,18 @@ public interface Card extends Comparable<Card> {
    */
   CardColor getColor();
 
+  /**
+   * Compares cards by {@link Rank} and then by {@link Suit}, using their ordinals. The result is
+   * the difference between the rank ordinals or, if the ranks are equal, between the suit ordinals.
+   *
+   * @param that the {@code Card} used in the comparison
+   * @return a negative, zero or positive difference as this card sorts before, with or after it
+   * @throws NullPointerException if the argument is {@code null}
+   */
   @Override
   default int compareTo(Card that) {
-    return comparing(Card::getRank).thenComparing(Card::getSuit).compare(this, that);
+    int byRank = getRank().ordinal() - that.getRank().ordinal();
+    return byRank != 0 ? byRank : getSuit().ordinal() - that.getSuit().ordinal();
   }
 
   /**
@@ -65,9 +72,8 @@ public interface Card extends Comparable<Card> {
    * @throws NullPointerException if the {@code card} argument is {@code null}.
    */
   default boolean sameColor(Card that) {
-    String message = "You must pass a non null card for comparison.";
-    Objects.requireNonNull(that, message);
-    return comparing(Card::getColor).compare(this, that) == 0;
+    Objects.requireNonNull(that, "You must pass a non null card for comparison.");
+    return getColor() == that.getColor();
   }
 
   /**
@@ -78,9 +84,8 @@ public interface Card extends Comparable<Card> {
    * @throws NullPointerException if the argument is {@code null}
    */
   default boolean sameRank(Card that) {
-    String nullError = "You must pass a non null card for comparison.";
-    Objects.requireNonNull(that, nullError);
-    return comparing(Card::getRank).compare(this, that) == 0;
+    Objects.requireNonNull(that, "You must pass a non null card for comparison.");
+    return getRank() == that.getRank();
   }
 
   /**
@@ -91,8 +96,7 @@ public interface Card extends Comparable<Card> {
    * @throws NullPointerException if the argument is {@code null}
    */
   default boolean sameValue(Card that) {
-    String nullError = "You must pass a non null card for comparison.";
-    Objects.requireNonNull(that, nullError);
-    return comparing(Card::getValue).compare(this, that) == 0;
+    Objects.requireNonNull(that, "You must pass a non null card for comparison.");
+    return getValue() == that.getValue();
   }
 }
@@ -0,0 +1,416 @@
+package com.frijolie.cards;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A compact binary format for cards, for storing or sending large numbers of decks and hands.
+ *
+ * <p>Every record starts with a kind byte, followed by one of four bodies:
+ *
+ * <ul>
+ *   <li>A sequence of cards: its length as an unsigned variable-length integer (seven bits per
+ *       byte, low bits first), then one byte per card holding its {@link IntCard} code. A six deck
+ *       shoe takes 315 bytes, against roughly 1,900 characters of text.</li>
+ *   <li>A seeded deck: the number of decks as a variable-length integer, then an 8-byte seed. It
+ *       stands for the order of {@code new Deck(numOfDecks, new SplittableRandom(seed))}, so a
+ *       shuffled shoe of any size takes at most 14 bytes.</li>
+ *   <li>A versioned seeded shuffle: the number of decks as a variable-length integer, the {@link
+ *       ShuffleAlgorithm} version as one byte, then an 8-byte seed. It stands for the order of a
+ *       {@link SeededShuffle}, and takes at most 15 bytes. A seeded deck reads as version 1.</li>
+ *   <li>A set of distinct cards: the 8-byte {@link CardSet} mask.</li>
+ * </ul>
+ *
+ * <p>Records can be written to and read from a {@link ByteBuffer}, which advances past them, or a
+ * stream. Multi-byte values are big-endian whatever the buffer's byte order. A record which is not
+ * well formed is rejected with an {@link IllegalArgumentException}.
+ *
+ * @see IntCard
+ * @see CardSet
+ */
+public final class CardCodec {
+
+  /**
+   * The kind byte of a sequence of cards.
+   */
+  private static final byte CARDS = 1;
+
+  /**
+   * The kind byte of a seeded deck.
+   */
+  private static final byte SEEDED = 2;
+
+  /**
+   * The kind byte of a set of cards.
+   */
+  private static final byte SET = 3;
+
+  /**
+   * The kind byte of a versioned seeded shuffle.
+   */
+  private static final byte VERSIONED = 4;
+
+  /**
+   * The most bytes a variable-length {@code int} can take.
+   */
+  private static final int MAX_VARINT = 5;
+
+  /**
+   * The most cards a sequence read from a stream may hold, about 20,000 decks. A longer length is
+   * taken as a corrupt stream rather than a reason to allocate.
+   */
+  private static final int MAX_STREAM_CARDS = 1 << 20;
+
+  /**
+   * This class only contains static methods.
+   */
+  private CardCodec() {
+  }
+
+  /**
+   * Writes a sequence of cards, in iteration order. Pass {@link Deck#getDeck()} to record the
+   * cards a deck has still to deal.
+   *
+   * @param out   the buffer to write to
+   * @param cards the cards to write
+   * @throws java.nio.BufferOverflowException if the buffer has too little space remaining
+   * @throws NullPointerException if either argument or any card is {@code null}
+   */
+  public static void encode(ByteBuffer out, Collection<? extends Card> cards) {
+    Objects.requireNonNull(cards, "You must pass a non null collection of cards.");
+    out.put(CARDS);
+    putVarint(out, cards.size());
+    for (Card card : cards) {
+      out.put((byte) IntCard.encode(card));
+    }
+  }
+
+  /**
+   * Writes a set of distinct cards.
+   *
+   * @param out   the buffer to write to
+   * @param cards the cards to write
+   * @throws java.nio.BufferOverflowException if the buffer has too little space remaining
+   */
+  public static void encode(ByteBuffer out, CardSet cards) {
+    out.put(SET);
+    out.putLong(cards.toLong());
+  }
+
+  /**
+   * Writes a versioned seeded shuffle, which records the algorithm alongside the seed.
+   *
+   * @param out     the buffer to write to
+   * @param shuffle the shuffle to write
+   * @throws java.nio.BufferOverflowException if the buffer has too little space remaining
+   */
+  public static void encode(ByteBuffer out, SeededShuffle shuffle) {
+    out.put(VERSIONED);
+    putVarint(out, shuffle.getNumOfDecks());
+    out.put((byte) shuffle.getAlgorithm().getVersion());
+    out.putLong(shuffle.getSeed());
+  }
+
+  /**
+   * Writes a seeded deck: the order of {@code new Deck(numOfDecks, new SplittableRandom(seed))}.
+   *
+   * @param out        the buffer to write to
+   * @param numOfDecks the number of decks
+   * @param seed       the seed of the shuffle
+   * @throws IllegalArgumentException if {@code numOfDecks} is less than one
+   * @throws java.nio.BufferOverflowException if the buffer has too little space remaining
+   */
+  public static void encodeSeeded(ByteBuffer out, int numOfDecks, long seed) {
+    checkDecks(numOfDecks);
+    out.put(SEEDED);
+    putVarint(out, numOfDecks);
+    out.putLong(seed);
+  }
+
+  /**
+   * Reads a sequence of cards, a seeded deck or a versioned seeded shuffle, as a deck which will
+   * deal them in order.
+   *
+   * @param in the buffer to read from
+   * @return an undealt deck of the cards in the record
+   * @throws IllegalArgumentException if the record is not a well formed deck record
+   * @throws BufferUnderflowException if the buffer ends before the record does, which is checked
+   *                                  before a sequence is allocated
+   */
+  public static IntDeck decodeDeck(ByteBuffer in) {
+    byte kind = in.get();
+    if (kind == SEEDED || kind == VERSIONED) {
+      return shuffleBody(kind, in).toIntDeck();
+    }
+    if (kind != CARDS) {
+      throw new IllegalArgumentException("Expected a deck record. Instead found kind: " + kind);
+    }
+    int length = getVarint(in);
+    if (length > in.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    byte[] cards = new byte[length];
+    in.get(cards);
+    for (byte code : cards) {
+      if (code < 0 || code >= IntCard.COUNT) {
+        throw new IllegalArgumentException("Not a card code: " + code);
+      }
+    }
+    return new IntDeck(cards);
+  }
+
+  /**
+   * Reads a seeded deck or a versioned seeded shuffle, without building the deck. A seeded deck
+   * reads as {@link ShuffleAlgorithm#FISHER_YATES}.
+   *
+   * @param in the buffer to read from
+   * @return the shuffle in the record
+   * @throws IllegalArgumentException if the record is not a well formed seeded record
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the record does
+   */
+  public static SeededShuffle decodeShuffle(ByteBuffer in) {
+    byte kind = in.get();
+    if (kind != SEEDED && kind != VERSIONED) {
+      throw new IllegalArgumentException("Expected a seeded record. Instead found kind: " + kind);
+    }
+    return shuffleBody(kind, in);
+  }
+
+  /**
+   * Reads the body of a seeded deck or a versioned seeded shuffle.
+   */
+  private static SeededShuffle shuffleBody(byte kind, ByteBuffer in) {
+    int numOfDecks = checkDecks(getVarint(in));
+    ShuffleAlgorithm algorithm = kind == SEEDED
+        ? ShuffleAlgorithm.FISHER_YATES
+        : ShuffleAlgorithm.fromVersion(in.get() & 0xFF);
+    return new SeededShuffle(in.getLong(), numOfDecks, algorithm);
+  }
+
+  /**
+   * Reads a set of cards.
+   *
+   * @param in the buffer to read from
+   * @return the set in the record
+   * @throws IllegalArgumentException if the record is not a well formed set
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the record does
+   */
+  public static CardSet decodeSet(ByteBuffer in) {
+    byte kind = in.get();
+    if (kind != SET) {
+      throw new IllegalArgumentException("Expected a set record. Instead found kind: " + kind);
+    }
+    return new CardSet(in.getLong());
+  }
+
+  /**
+   * Writes a sequence of cards to a stream.
+   *
+   * @param out   the stream to write to
+   * @param cards the cards to write
+   * @throws IOException if the stream cannot be written
+   * @throws NullPointerException if either argument or any card is {@code null}
+   * @see #encode(ByteBuffer, Collection)
+   */
+  public static void write(OutputStream out, Collection<? extends Card> cards) throws IOException {
+    Objects.requireNonNull(cards, "You must pass a non null collection of cards.");
+    ByteBuffer buffer = ByteBuffer.allocate(1 + MAX_VARINT + cards.size());
+    encode(buffer, cards);
+    out.write(buffer.array(), 0, buffer.position());
+  }
+
+  /**
+   * Writes a set of cards to a stream.
+   *
+   * @param out   the stream to write to
+   * @param cards the cards to write
+   * @throws IOException if the stream cannot be written
+   * @see #encode(ByteBuffer, CardSet)
+   */
+  public static void write(OutputStream out, CardSet cards) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(1 + Long.BYTES);
+    encode(buffer, cards);
+    out.write(buffer.array());
+  }
+
+  /**
+   * Writes a versioned seeded shuffle to a stream.
+   *
+   * @param out     the stream to write to
+   * @param shuffle the shuffle to write
+   * @throws IOException if the stream cannot be written
+   * @see #encode(ByteBuffer, SeededShuffle)
+   */
+  public static void write(OutputStream out, SeededShuffle shuffle) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(2 + MAX_VARINT + Long.BYTES);
+    encode(buffer, shuffle);
+    out.write(buffer.array(), 0, buffer.position());
+  }
+
+  /**
+   * Writes a seeded deck to a stream.
+   *
+   * @param out        the stream to write to
+   * @param numOfDecks the number of decks
+   * @param seed       the seed of the shuffle
+   * @throws IllegalArgumentException if {@code numOfDecks} is less than one
+   * @throws IOException if the stream cannot be written
+   * @see #encodeSeeded(ByteBuffer, int, long)
+   */
+  public static void writeSeeded(OutputStream out, int numOfDecks, long seed)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(1 + MAX_VARINT + Long.BYTES);
+    encodeSeeded(buffer, numOfDecks, seed);
+    out.write(buffer.array(), 0, buffer.position());
+  }
+
+  /**
+   * Reads a sequence of cards, a seeded deck or a versioned seeded shuffle from a stream. Exactly
+   * one record is consumed.
+   *
+   * @param in the stream to read from
+   * @return an undealt deck of the cards in the record
+   * @throws EOFException if the stream ends before the record does
+   * @throws IllegalArgumentException if the record is not a well formed deck record, or is a
+   *                                  sequence of more than 2<sup>20</sup> cards
+   * @throws IOException if the stream cannot be read
+   * @see #decodeDeck(ByteBuffer)
+   */
+  public static IntDeck readDeck(InputStream in) throws IOException {
+    return decodeDeck(readRecord(in));
+  }
+
+  /**
+   * Reads a seeded deck or a versioned seeded shuffle from a stream. Exactly one record is
+   * consumed.
+   *
+   * @param in the stream to read from
+   * @return the shuffle in the record
+   * @throws EOFException if the stream ends before the record does
+   * @throws IllegalArgumentException if the record is not a well formed seeded record
+   * @throws IOException if the stream cannot be read
+   * @see #decodeShuffle(ByteBuffer)
+   */
+  public static SeededShuffle readShuffle(InputStream in) throws IOException {
+    return decodeShuffle(readRecord(in));
+  }
+
+  /**
+   * Reads a set of cards from a stream. Exactly one record is consumed.
+   *
+   * @param in the stream to read from
+   * @return the set in the record
+   * @throws EOFException if the stream ends before the record does
+   * @throws IllegalArgumentException if the record is not a well formed set
+   * @throws IOException if the stream cannot be read
+   * @see #decodeSet(ByteBuffer)
+   */
+  public static CardSet readSet(InputStream in) throws IOException {
+    return decodeSet(readRecord(in));
+  }
+
+  /**
+   * Reads the bytes of the next record from a stream, so it can be decoded from a buffer.
+   */
+  private static ByteBuffer readRecord(InputStream in) throws IOException {
+    byte kind = (byte) readByte(in);
+    byte[] header = new byte[1 + MAX_VARINT];
+    header[0] = kind;
+    int length = 1;
+    int body;
+    if (kind == SET) {
+      body = Long.BYTES;
+    } else if (kind != CARDS && kind != SEEDED && kind != VERSIONED) {
+      throw new IllegalArgumentException("Not a record kind: " + kind);
+    } else {
+      int value = 0;
+      for (int shift = 0; ; shift += 7) {
+        if (length == header.length) {
+          throw new IllegalArgumentException("A length is longer than 5 bytes.");
+        }
+        int b = readByte(in);
+        header[length++] = (byte) b;
+        value |= (b & 0x7F) << shift;
+        if (b < 0x80) {
+          break;
+        }
+      }
+      if (value < 0) {
+        throw new IllegalArgumentException("A length must not be negative: " + value);
+      }
+      if (kind == SEEDED) {
+        body = Long.BYTES;
+      } else if (kind == VERSIONED) {
+        body = 1 + Long.BYTES;
+      } else if (value > MAX_STREAM_CARDS) {
+        throw new IllegalArgumentException("A sequence read from a stream may hold at most "
+            + MAX_STREAM_CARDS + " cards. Instead it holds: " + value);
+      } else {
+        body = value;
+      }
+    }
+    ByteBuffer record = ByteBuffer.allocate(length + body);
+    record.put(header, 0, length);
+    if (in.readNBytes(record.array(), length, body) < body) {
+      throw new EOFException("The stream ended in the middle of a record.");
+    }
+    return record.rewind();
+  }
+
+  /**
+   * Reads a single byte from a stream, failing if it has ended.
+   */
+  private static int readByte(InputStream in) throws IOException {
+    int b = in.read();
+    if (b < 0) {
+      throw new EOFException("The stream ended in the middle of a record.");
+    }
+    return b;
+  }
+
+  /**
+   * Writes a non-negative {@code int} seven bits at a time, low bits first, setting the top bit of
+   * every byte but the last.
+   */
+  private static void putVarint(ByteBuffer out, int value) {
+    while ((value & ~0x7F) != 0) {
+      out.put((byte) (value & 0x7F | 0x80));
+      value >>>= 7;
+    }
+    out.put((byte) value);
+  }
+
+  /**
+   * Reads a non-negative {@code int} written by {@link #putVarint(ByteBuffer, int)}.
+   */
+  private static int getVarint(ByteBuffer in) {
+    int value = 0;
+    for (int shift = 0; shift < 7 * MAX_VARINT; shift += 7) {
+      byte b = in.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        if (value < 0) {
+          throw new IllegalArgumentException("A length must not be negative: " + value);
+        }
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("A length is longer than 5 bytes.");
+  }
+
+  /**
+   * Checks a number of decks can be held in an array.
+   */
+  private static int checkDecks(int numOfDecks) {
+    if (numOfDecks < 1 || numOfDecks > Integer.MAX_VALUE / IntCard.COUNT) {
+      throw new IllegalArgumentException("The number of decks is out of range: " + numOfDecks);
+    }
+    return numOfDecks;
+  }
+}
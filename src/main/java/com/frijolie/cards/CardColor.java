@@ -1,5 +1,7 @@
 package com.frijolie.cards;
 
+import java.util.List;
+
 /**
  * An enumeration of all possible values for a {@link PlayingCard} color. Valid values are: RED or
  * BLACK. The colors are linked with a {@link Suit}.
@@ -42,4 +44,14 @@ public enum CardColor {
   public String toString() {
     return name;
   }
+
+  /**
+   * Returns the suits of this color. For example, DIAMONDS and HEARTS for {@code RED}.
+   *
+   * @return an unmodifiable list of the suits, in declaration order
+   * @see Suit#withColor(CardColor)
+   */
+  public List<Suit> getSuits() {
+    return Suit.withColor(this);
+  }
 }
@@ -0,0 +1,203 @@
+package com.frijolie.cards;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Converts cards to and from text. A card is written as its {@link Rank#getLetter() rank letter}
+ * followed by its {@link Suit#getSymbol() suit symbol}, such as "A♠", or in ASCII with a lower
+ * case suit letter, such as "As".
+ *
+ * <p>Parsing accepts either form. Rank letters may be upper or lower case, and suits may also be
+ * given as an upper case letter or a white suit symbol such as ♤. Each character is resolved with
+ * a single table lookup, so parsing neither searches the enum constants nor allocates.
+ *
+ * <p>Formatting appends characters to a caller's {@link StringBuilder}, so a whole hand can be
+ * written without building a {@code String} per card.
+ *
+ * @see PlayingCard#toString()
+ */
+public final class CardFormat {
+
+  /**
+   * The lower case ASCII letter of each suit, indexed by {@link Suit} ordinal.
+   */
+  private static final String SUIT_LETTERS = "cdsh";
+
+  /**
+   * The suit ordinal of every ASCII character, or -1 if it is not a suit letter.
+   */
+  private static final byte[] SUIT_BY_CHAR = new byte[128];
+
+  static {
+    Arrays.fill(SUIT_BY_CHAR, (byte) -1);
+    for (int ordinal = 0; ordinal < Suit.COUNT; ordinal++) {
+      char letter = SUIT_LETTERS.charAt(ordinal);
+      SUIT_BY_CHAR[letter] = (byte) ordinal;
+      SUIT_BY_CHAR[Character.toUpperCase(letter)] = (byte) ordinal;
+    }
+  }
+
+  /**
+   * This class only contains static methods.
+   */
+  private CardFormat() {
+  }
+
+  /**
+   * Parses a single card, such as "A♠", "As" or "td".
+   *
+   * @param text exactly two characters: a rank letter and then a suit
+   * @return the canonical card
+   * @throws IllegalArgumentException if the text is not a card
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public static PlayingCard parse(CharSequence text) {
+    Objects.requireNonNull(text, "You must pass non null text to parse.");
+    if (text.length() != 2) {
+      throw new IllegalArgumentException("A card is two characters. Instead found: " + text);
+    }
+    return PlayingCard.of(parseCode(text, 0));
+  }
+
+  /**
+   * Parses the card whose rank letter is at the given index, without allocating.
+   *
+   * @param text  the text to parse
+   * @param index the index of the rank letter. The suit follows it.
+   * @return the {@link IntCard} code of the card
+   * @throws IllegalArgumentException if the two characters at {@code index} are not a card
+   * @throws IndexOutOfBoundsException if fewer than two characters follow {@code index}
+   */
+  public static int parseCode(CharSequence text, int index) {
+    char letter = text.charAt(index);
+    char symbol = text.charAt(index + 1);
+    int rank = Rank.ordinalOf(letter);
+    int suit = suitOrdinal(symbol);
+    if (rank < 0 || suit < 0) {
+      throw new IllegalArgumentException("Not a card: \"" + letter + symbol + "\" at " + index);
+    }
+    return suit * Rank.COUNT + rank;
+  }
+
+  /**
+   * Parses every card in a hand, such as "A♠ K♥", "AsKh" or "[A♠, K♥]". Spaces, commas and
+   * brackets between cards are ignored.
+   *
+   * @param text the text to parse
+   * @param dest the collection to add the cards to, in order
+   * @return the number of cards parsed
+   * @throws IllegalArgumentException if the text holds something other than cards and separators
+   * @throws NullPointerException if either argument is {@code null}
+   */
+  public static int parseAll(CharSequence text, Collection<? super PlayingCard> dest) {
+    Objects.requireNonNull(dest, "You must pass a non null collection.");
+    int count = 0;
+    for (int i = skip(text, 0); i < text.length(); i = skip(text, i + 2)) {
+      dest.add(PlayingCard.of(codeAt(text, i)));
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Parses every card in a hand into a set, without allocating anything but the set.
+   *
+   * @param text the text to parse, in any form accepted by {@link #parseAll(CharSequence,
+   *             Collection)}
+   * @return a set of the cards
+   * @throws IllegalArgumentException if the text holds something other than cards and separators,
+   *                                  or the same card twice
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public static CardSet parseSet(CharSequence text) {
+    Objects.requireNonNull(text, "You must pass non null text to parse.");
+    CardSet set = new CardSet();
+    for (int i = skip(text, 0); i < text.length(); i = skip(text, i + 2)) {
+      if (!set.add(codeAt(text, i))) {
+        throw new IllegalArgumentException("The same card appears twice at " + i + ": " + text);
+      }
+    }
+    return set;
+  }
+
+  /**
+   * Appends a card with its suit symbol, such as "A♠".
+   *
+   * @param out  the builder to append to
+   * @param card the card to append
+   * @return the builder
+   * @throws NullPointerException if either argument is {@code null}
+   */
+  public static StringBuilder append(StringBuilder out, Card card) {
+    return out.append(card.getRank().getLetter()).append(card.getSuit().getSymbol());
+  }
+
+  /**
+   * Appends a card in ASCII, with a lower case suit letter, such as "As".
+   *
+   * @param out  the builder to append to
+   * @param card the card to append
+   * @return the builder
+   * @throws NullPointerException if either argument is {@code null}
+   */
+  public static StringBuilder appendAscii(StringBuilder out, Card card) {
+    return out.append(card.getRank().getLetter())
+        .append(SUIT_LETTERS.charAt(card.getSuit().ordinal()));
+  }
+
+  /**
+   * Appends every card in a hand with its suit symbol, separated by single spaces, such as "A♠
+   * K♥". The result can be read back by {@link #parseAll(CharSequence, Collection)}.
+   *
+   * @param out   the builder to append to
+   * @param cards the cards to append
+   * @return the builder
+   * @throws NullPointerException if any argument or card is {@code null}
+   */
+  public static StringBuilder appendAll(StringBuilder out, Iterable<? extends Card> cards) {
+    int start = out.length();
+    for (Card card : cards) {
+      if (out.length() > start) {
+        out.append(' ');
+      }
+      append(out, card);
+    }
+    return out;
+  }
+
+  /**
+   * Parses the card at the given index of a hand, which must not be the last character.
+   */
+  private static int codeAt(CharSequence text, int index) {
+    if (index + 1 == text.length()) {
+      throw new IllegalArgumentException("The text ends in the middle of a card: " + text);
+    }
+    return parseCode(text, index);
+  }
+
+  /**
+   * Returns the suit ordinal of a suit letter or symbol, or -1 if it is neither.
+   */
+  private static int suitOrdinal(char symbol) {
+    if (symbol < SUIT_BY_CHAR.length) {
+      return SUIT_BY_CHAR[symbol];
+    }
+    return Suit.ordinalOf(symbol);
+  }
+
+  /**
+   * Returns the index of the first character at or after {@code from} which is not a separator.
+   */
+  private static int skip(CharSequence text, int from) {
+    while (from < text.length()) {
+      char c = text.charAt(from);
+      if (c != ' ' && c != ',' && c != '[' && c != ']' && c != '\t' && c != '\n') {
+        break;
+      }
+      from++;
+    }
+    return from;
+  }
+}
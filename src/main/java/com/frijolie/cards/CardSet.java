@@ -0,0 +1,401 @@
+package com.frijolie.cards;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A set of distinct cards, backed by a single {@code long}. Each of the 52 cards owns one bit,
+ * numbered by its {@link IntCard} code, so membership tests, unions and intersections are a single
+ * bitwise operation and {@link #size()} is a population count.
+ *
+ * <p>Because codes are ordered by {@link Suit} and then {@link Rank}, the 13 cards of a suit occupy
+ * consecutive bits. {@link #rankBits(Suit)} extracts them as a 13-bit mask, with bit {@code i} set
+ * when the rank with ordinal {@code i} is present.
+ *
+ * <p>A {@code CardSet} is mutable and not thread-safe. A set cannot hold duplicates, so it is not
+ * suitable for the contents of a multi-deck shoe.
+ *
+ * @see IntCard
+ * @see Card
+ */
+public final class CardSet implements Iterable<Card> {
+
+  /**
+   * A mask with one bit set for every card.
+   */
+  public static final long ALL = (1L << IntCard.COUNT) - 1;
+
+  /**
+   * A mask of the 13 bits used by a single suit.
+   */
+  private static final int SUIT_BITS = (1 << Rank.COUNT) - 1;
+
+  /**
+   * The mask of every card in each suit, indexed by {@link Suit} ordinal.
+   */
+  private static final long[] SUIT_MASKS = new long[Suit.COUNT];
+
+  /**
+   * The mask of every card of each rank, indexed by {@link Rank} ordinal.
+   */
+  private static final long[] RANK_MASKS = new long[Rank.COUNT];
+
+  static {
+    for (Suit suit : Suit.values()) {
+      for (Rank rank : Rank.values()) {
+        long bit = bit(IntCard.encode(rank, suit));
+        SUIT_MASKS[suit.ordinal()] |= bit;
+        RANK_MASKS[rank.ordinal()] |= bit;
+      }
+    }
+  }
+
+  /**
+   * One bit for every card in the set.
+   */
+  private long bits;
+
+  /**
+   * Creates an empty set.
+   */
+  public CardSet() {
+  }
+
+  /**
+   * Creates a set from a mask of card bits, such as one returned by {@link #toLong()}.
+   *
+   * @param bits the mask of cards in the set
+   * @throws IllegalArgumentException if a bit above the 52 card bits is set
+   */
+  public CardSet(long bits) {
+    if ((bits & ~ALL) != 0) {
+      throw new IllegalArgumentException("Only the lowest 52 bits may be set: " + bits);
+    }
+    this.bits = bits;
+  }
+
+  /**
+   * Creates a set holding the given cards.
+   *
+   * @param cards the cards to add
+   * @throws NullPointerException if the argument or any card is {@code null}
+   */
+  public CardSet(Iterable<? extends Card> cards) {
+    Objects.requireNonNull(cards, "You must pass a non null collection of cards.");
+    for (Card card : cards) {
+      add(card);
+    }
+  }
+
+  /**
+   * Returns the bit which represents the card with the given code.
+   *
+   * @param code the card code, from 0 to 51
+   * @return a mask with a single bit set
+   */
+  public static long bit(int code) {
+    return 1L << code;
+  }
+
+  /**
+   * Returns the mask of the 13 cards in the given {@link Suit}.
+   *
+   * @param suit the suit
+   * @return the mask of every card in that suit
+   */
+  public static long suitMask(Suit suit) {
+    return SUIT_MASKS[suit.ordinal()];
+  }
+
+  /**
+   * Returns the mask of the 4 cards with the given {@link Rank}.
+   *
+   * @param rank the rank
+   * @return the mask of every card with that rank
+   */
+  public static long rankMask(Rank rank) {
+    return RANK_MASKS[rank.ordinal()];
+  }
+
+  /**
+   * Adds a card to the set.
+   *
+   * @param card the card to add
+   * @return {@code true} if the card was not already present
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public boolean add(Card card) {
+    return add(IntCard.encode(card));
+  }
+
+  /**
+   * Adds the card with the given code to the set.
+   *
+   * @param code the card code, from 0 to 51
+   * @return {@code true} if the card was not already present
+   * @throws IllegalArgumentException if the code is out of range
+   */
+  public boolean add(int code) {
+    long old = bits;
+    bits |= bit(checkCode(code));
+    return bits != old;
+  }
+
+  /**
+   * Removes a card from the set.
+   *
+   * @param card the card to remove
+   * @return {@code true} if the card was present
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public boolean remove(Card card) {
+    return remove(IntCard.encode(card));
+  }
+
+  /**
+   * Removes the card with the given code from the set.
+   *
+   * @param code the card code, from 0 to 51
+   * @return {@code true} if the card was present
+   * @throws IllegalArgumentException if the code is out of range
+   */
+  public boolean remove(int code) {
+    long old = bits;
+    bits &= ~bit(checkCode(code));
+    return bits != old;
+  }
+
+  /**
+   * Returns {@code true} if the set holds the given card.
+   *
+   * @param card the card to look for
+   * @return {@code true} if the card is present
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public boolean contains(Card card) {
+    return contains(IntCard.encode(card));
+  }
+
+  /**
+   * Returns {@code true} if the set holds the card with the given code.
+   *
+   * @param code the card code, from 0 to 51
+   * @return {@code true} if the card is present
+   * @throws IllegalArgumentException if the code is out of range
+   */
+  public boolean contains(int code) {
+    return (bits & bit(checkCode(code))) != 0;
+  }
+
+  /**
+   * Adds every card in another set to this one.
+   *
+   * @param that the cards to add
+   */
+  public void addAll(CardSet that) {
+    bits |= that.bits;
+  }
+
+  /**
+   * Removes every card in another set from this one.
+   *
+   * @param that the cards to remove
+   */
+  public void removeAll(CardSet that) {
+    bits &= ~that.bits;
+  }
+
+  /**
+   * Removes every card which is not also in another set.
+   *
+   * @param that the cards to keep
+   */
+  public void retainAll(CardSet that) {
+    bits &= that.bits;
+  }
+
+  /**
+   * Returns a new set holding the cards in either set.
+   *
+   * @param that the other set
+   * @return the union of both sets
+   */
+  public CardSet union(CardSet that) {
+    return new CardSet(bits | that.bits);
+  }
+
+  /**
+   * Returns a new set holding the cards in both sets.
+   *
+   * @param that the other set
+   * @return the intersection of both sets
+   */
+  public CardSet intersection(CardSet that) {
+    return new CardSet(bits & that.bits);
+  }
+
+  /**
+   * Returns a new set holding every card which is not in this one. For a set of dead cards, this is
+   * the set of cards still live.
+   *
+   * @return the complement of this set
+   */
+  public CardSet complement() {
+    return new CardSet(~bits & ALL);
+  }
+
+  /**
+   * Returns the number of cards in the set.
+   *
+   * @return the number of cards
+   */
+  public int size() {
+    return Long.bitCount(bits);
+  }
+
+  /**
+   * Returns the number of cards in the set with the given {@link Suit}.
+   *
+   * @param suit the suit to count
+   * @return the number of cards in that suit
+   */
+  public int count(Suit suit) {
+    return Long.bitCount(bits & suitMask(suit));
+  }
+
+  /**
+   * Returns the number of cards in the set with the given {@link Rank}.
+   *
+   * @param rank the rank to count
+   * @return the number of cards with that rank
+   */
+  public int count(Rank rank) {
+    return Long.bitCount(bits & rankMask(rank));
+  }
+
+  /**
+   * Returns the ranks present in the given {@link Suit} as a 13-bit mask. Bit {@code i} is set when
+   * the card with rank ordinal {@code i} is in the set.
+   *
+   * @param suit the suit to extract
+   * @return the rank mask of that suit
+   */
+  public int rankBits(Suit suit) {
+    return (int) (bits >>> IntCard.encode(Rank.TWO, suit)) & SUIT_BITS;
+  }
+
+  /**
+   * Returns {@code true} if the set holds no cards.
+   *
+   * @return {@code true} if the set is empty
+   */
+  public boolean isEmpty() {
+    return bits == 0;
+  }
+
+  /**
+   * Removes every card from the set.
+   */
+  public void clear() {
+    bits = 0;
+  }
+
+  /**
+   * Returns the code of the first card in the set at or after the given code.
+   *
+   * @param from the code to start searching from
+   * @return the code of the next card, or -1 if there is none
+   * @throws IllegalArgumentException if {@code from} is negative
+   */
+  public int nextCode(int from) {
+    if (from < 0) {
+      throw new IllegalArgumentException("Not a card code: " + from);
+    }
+    if (from >= IntCard.COUNT) {
+      return -1;
+    }
+    long remaining = bits & (-1L << from);
+    return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+  }
+
+  /**
+   * Returns the mask of card bits in the set.
+   *
+   * @return one bit for every card, numbered by {@link IntCard} code
+   */
+  public long toLong() {
+    return bits;
+  }
+
+  /**
+   * Returns an iterator over the canonical cards in the set, in code order. The iterator reflects
+   * the set at the time it was created.
+   *
+   * @return an iterator over the cards
+   */
+  @Override
+  public Iterator<Card> iterator() {
+    return new Iterator<>() {
+      private long remaining = bits;
+
+      @Override
+      public boolean hasNext() {
+        return remaining != 0;
+      }
+
+      @Override
+      public Card next() {
+        if (remaining == 0) {
+          throw new NoSuchElementException("There are no cards remaining in the set.");
+        }
+        int code = Long.numberOfTrailingZeros(remaining);
+        remaining &= remaining - 1;
+        return IntCard.decode(code);
+      }
+    };
+  }
+
+  /**
+   * Checks that a code belongs to one of the 52 cards, so it cannot set a stray bit or wrap around
+   * to another card.
+   *
+   * @param code the card code
+   * @return the argument
+   * @throws IllegalArgumentException if the code is not from 0 to 51
+   */
+  private static int checkCode(int code) {
+    if (code < 0 || code >= IntCard.COUNT) {
+      throw new IllegalArgumentException("Not a card code: " + code);
+    }
+    return code;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return bits == ((CardSet) o).bits;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(bits);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+    for (Card card : this) {
+      if (builder.length() > 1) {
+        builder.append(", ");
+      }
+      builder.append(card);
+    }
+    return builder.append(']').toString();
+  }
+}
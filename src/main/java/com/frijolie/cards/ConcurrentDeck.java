@@ -0,0 +1,179 @@
+package com.frijolie.cards;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+/**
+ * A shuffled {@link Deck} which many threads can deal from at once, such as a shoe shared by
+ * several tables.
+ *
+ * <p>The cards are shuffled once, when the deck is created, and the array holding them is never
+ * written again. Dealing only advances an atomic cursor, so a draw is a single atomic increment
+ * and threads never block one another. Every card is dealt exactly once, to exactly one thread.
+ *
+ * <p>A table which deals several cards at a time can {@link #reserve(int)} them as a {@link
+ * Batch}, claiming a run of cards in one atomic step and then dealing them without touching the
+ * shared cursor at all.
+ *
+ * <p>A concurrent deck cannot be reset or reshuffled. Once it is exhausted, create another.
+ *
+ * @see Deck
+ */
+public class ConcurrentDeck {
+
+  /**
+   * The shuffled cards. Never modified after construction.
+   */
+  private final Card[] deck;
+
+  /**
+   * The index of the next card to be dealt. May run past the end of the deck when threads race
+   * for the last cards; every index past the end is treated as exhausted.
+   */
+  private final AtomicInteger cursor = new AtomicInteger();
+
+  /**
+   * Constructor. Creates the given number of decks, shuffled with {@link ThreadLocalRandom}.
+   *
+   * @param numOfDecks the number of decks to create
+   */
+  public ConcurrentDeck(int numOfDecks) {
+    this(numOfDecks, ThreadLocalRandom.current());
+  }
+
+  /**
+   * Overloaded constructor. Creates the given number of decks, shuffled with the given source of
+   * randomness. The generator is only used by the constructor.
+   *
+   * @param numOfDecks the number of decks to create
+   * @param random     the source of randomness
+   * @throws NullPointerException if {@code random} is {@code null}
+   */
+  public ConcurrentDeck(int numOfDecks, RandomGenerator random) {
+    Deck.requireRandom(random);
+    deck = new Card[numOfDecks * PlayingCard.COUNT];
+    for (int i = 0; i < numOfDecks; i++) {
+      PlayingCard.copyTo(deck, i * PlayingCard.COUNT);
+    }
+    Shuffler.shuffle(deck, 0, deck.length, random);
+  }
+
+  /**
+   * Removes and returns the next card.
+   *
+   * @return the next card
+   * @throws NoSuchElementException if there are no cards remaining
+   */
+  public Card draw() {
+    if (cursor.get() < deck.length) {
+      int i = cursor.getAndIncrement();
+      if (i < deck.length) {
+        return deck[i];
+      }
+    }
+    throw new NoSuchElementException("There are no cards remaining in the deck.");
+  }
+
+  /**
+   * Claims the next {@code n} cards for the calling thread. Either all of the cards are claimed or
+   * none are.
+   *
+   * @param n the number of cards to claim
+   * @return a batch which deals the claimed cards in order
+   * @throws IllegalArgumentException if {@code n} is negative
+   * @throws NoSuchElementException if fewer than {@code n} cards remain
+   */
+  public Batch reserve(int n) {
+    if (n < 0) {
+      throw new IllegalArgumentException("Cannot reserve " + n + " cards.");
+    }
+    int start;
+    do {
+      start = cursor.get();
+      if (start > deck.length - n) {
+        throw new NoSuchElementException("Cannot reserve " + n + " cards, only "
+            + Math.max(0, deck.length - start) + " remain in the deck.");
+      }
+    } while (!cursor.compareAndSet(start, start + n));
+    return new Batch(deck, start, start + n);
+  }
+
+  /**
+   * Returns the number of cards which have not been dealt or reserved. Other threads may deal
+   * cards at any time, so the answer may already be stale.
+   *
+   * @return the number of remaining cards
+   */
+  public int remaining() {
+    return Math.max(0, deck.length - cursor.get());
+  }
+
+  /**
+   * Returns the number of cards in the deck, including those which have been dealt.
+   *
+   * @return the total number of cards
+   */
+  public int size() {
+    return deck.length;
+  }
+
+  /**
+   * A run of cards reserved from a {@link ConcurrentDeck} by one thread. Dealing from a batch
+   * touches no shared state. A batch is not thread-safe.
+   */
+  public static final class Batch {
+
+    /**
+     * The shared cards of the deck.
+     */
+    private final Card[] deck;
+
+    /**
+     * The index of the next card in the batch.
+     */
+    private int cursor;
+
+    /**
+     * The index after the last card in the batch.
+     */
+    private final int end;
+
+    /**
+     * Constructor.
+     *
+     * @param deck  the shared cards of the deck
+     * @param start the index of the first card in the batch
+     * @param end   the index after the last card in the batch
+     */
+    Batch(Card[] deck, int start, int end) {
+      this.deck = deck;
+      this.cursor = start;
+      this.end = end;
+    }
+
+    /**
+     * Removes and returns the next card in the batch.
+     *
+     * @return the next card
+     * @throws NoSuchElementException if every card in the batch has been dealt
+     */
+    public Card draw() {
+      if (cursor == end) {
+        throw new NoSuchElementException("There are no cards remaining in the batch.");
+      }
+      return deck[cursor++];
+    }
+
+    /**
+     * Returns the number of cards in the batch which have not been dealt.
+     *
+     * @return the number of remaining cards
+     */
+    public int remaining() {
+      return end - cursor;
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package com.frijolie.cards;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A continuous shuffling machine. Discarded cards are returned to the pool straight away, and every
+ * draw takes a uniformly random card from whatever is in the pool at the time. There is no cut card
+ * and the pool is never reshuffled.
+ *
+ * <p>The pool is a primitive array of {@link IntCard} codes. A draw swaps a random card with the
+ * last one and shrinks the pool, and a discard appends to it, so both are constant-time no matter
+ * how many decks the machine holds.
+ *
+ * <p>A {@code ContinuousShuffler} is not thread-safe.
+ *
+ * @see Shoe
+ */
+public class ContinuousShuffler {
+
+  /**
+   * The codes of the cards in the pool. Only the first {@link #size} are valid.
+   */
+  private final byte[] pool;
+
+  /**
+   * The number of cards in the pool.
+   */
+  private int size;
+
+  /**
+   * The source of randomness, or {@code null} to use {@link ThreadLocalRandom}.
+   */
+  private final RandomGenerator random;
+
+  /**
+   * The registered listeners. Replaced, never modified, when a listener is added or removed.
+   */
+  private DealListener[] listeners = DealListeners.NONE;
+
+  /**
+   * Constructor. Loads the given number of decks into the machine, drawing with {@link
+   * ThreadLocalRandom}.
+   *
+   * @param numOfDecks the number of decks to load
+   * @throws IllegalArgumentException if {@code numOfDecks} is less than one
+   */
+  public ContinuousShuffler(int numOfDecks) {
+    this(numOfDecks, null);
+  }
+
+  /**
+   * Overloaded constructor. Loads the given number of decks into the machine, drawing with the
+   * given source of randomness.
+   *
+   * @param numOfDecks the number of decks to load
+   * @param random     the source of randomness, or {@code null} to use {@link ThreadLocalRandom}
+   * @throws IllegalArgumentException if {@code numOfDecks} is less than one
+   */
+  public ContinuousShuffler(int numOfDecks, RandomGenerator random) {
+    if (numOfDecks < 1) {
+      throw new IllegalArgumentException("A shuffler must hold at least one deck: " + numOfDecks);
+    }
+    this.pool = new byte[numOfDecks * IntCard.COUNT];
+    this.random = random;
+    for (size = 0; size < pool.length; size++) {
+      pool[size] = (byte) (size % IntCard.COUNT);
+    }
+  }
+
+  /**
+   * Removes and returns the code of a random card from the pool.
+   *
+   * @return the code of the card, from 0 to 51
+   * @throws NoSuchElementException if the pool is empty
+   */
+  public int drawCode() {
+    if (size == 0) {
+      throw new NoSuchElementException("There are no cards remaining in the shuffler.");
+    }
+    RandomGenerator generator = random != null ? random : ThreadLocalRandom.current();
+    int index = generator.nextInt(size);
+    byte code = pool[index];
+    pool[index] = pool[--size];
+    for (DealListener listener : listeners) {
+      listener.cardDrawn(IntCard.decode(code));
+    }
+    return code;
+  }
+
+  /**
+   * Removes and returns a random card from the pool.
+   *
+   * @return the canonical instance of the card
+   * @throws NoSuchElementException if the pool is empty
+   */
+  public Card draw() {
+    return IntCard.decode(drawCode());
+  }
+
+  /**
+   * Returns a card to the pool.
+   *
+   * @param code the code of the card, from 0 to 51
+   * @throws IllegalArgumentException if the code is out of range
+   * @throws IllegalStateException if the pool is already full
+   */
+  public void discard(int code) {
+    if (code < 0 || code >= IntCard.COUNT) {
+      throw new IllegalArgumentException("Not a card code: " + code);
+    }
+    if (size == pool.length) {
+      throw new IllegalStateException("The shuffler already holds all " + pool.length + " cards.");
+    }
+    pool[size++] = (byte) code;
+    for (DealListener listener : listeners) {
+      listener.cardDiscarded(IntCard.decode(code));
+    }
+  }
+
+  /**
+   * Returns a card to the pool.
+   *
+   * @param card the card to return
+   * @throws NullPointerException if the argument is {@code null}
+   * @throws IllegalStateException if the pool is already full
+   */
+  public void discard(Card card) {
+    discard(IntCard.encode(card));
+  }
+
+  /**
+   * Returns the first {@code n} cards of an array to the pool, such as a finished hand. Either
+   * all of the cards are returned or, if any argument is invalid, none are.
+   *
+   * @param cards the cards to return
+   * @param n     the number of cards to return
+   * @throws IllegalArgumentException if {@code n} is negative or larger than the array
+   * @throws NullPointerException if the array or any of the cards is {@code null}
+   * @throws IllegalStateException if the pool does not have room for them all
+   */
+  public void discard(Card[] cards, int n) {
+    Objects.requireNonNull(cards, "You must pass a non null array of cards.");
+    if (n < 0 || n > cards.length) {
+      throw new IllegalArgumentException("Cannot discard " + n + " cards from an array of "
+          + cards.length);
+    }
+    if (size + n > pool.length) {
+      throw new IllegalStateException("The shuffler does not have room for " + n + " cards.");
+    }
+    for (int i = 0; i < n; i++) {
+      pool[size + i] = (byte) IntCard.encode(cards[i]);
+    }
+    size += n;
+    for (DealListener listener : listeners) {
+      for (int i = 0; i < n; i++) {
+        listener.cardDiscarded(cards[i]);
+      }
+    }
+  }
+
+  /**
+   * Registers a listener to be told about every card drawn from or discarded to this shuffler.
+   *
+   * @param listener the listener to add
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public void addDealListener(DealListener listener) {
+    listeners = DealListeners.add(listeners, listener);
+  }
+
+  /**
+   * Removes a listener added by {@link #addDealListener(DealListener)}.
+   *
+   * @param listener the listener to remove
+   * @return {@code true} if the listener was registered
+   */
+  public boolean removeDealListener(DealListener listener) {
+    DealListener[] removed = DealListeners.remove(listeners, listener);
+    if (removed == listeners) {
+      return false;
+    }
+    listeners = removed;
+    return true;
+  }
+
+  /**
+   * Returns the number of cards in the pool.
+   *
+   * @return the number of cards which can be drawn
+   */
+  public int remaining() {
+    return size;
+  }
+
+  /**
+   * Returns the number of cards the machine holds when every card has been returned.
+   *
+   * @return the total number of cards
+   */
+  public int capacity() {
+    return pool.length;
+  }
+}
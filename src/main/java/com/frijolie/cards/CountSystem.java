@@ -0,0 +1,137 @@
+package com.frijolie.cards;
+
+import java.util.Objects;
+
+/**
+ * A card counting system: a weight added to the running count for every card seen, depending on
+ * its {@link Rank}. The weights are expanded once into a table indexed by {@link IntCard} code, so
+ * counting a card is a single array lookup.
+ *
+ * <p>The common systems are provided as constants. Others can be created from their weights.
+ *
+ * @see RunningCount
+ */
+public final class CountSystem {
+
+  /**
+   * Hi-Lo: 2 to 6 count +1, 7 to 9 count 0, Ten to Ace count -1. Balanced.
+   */
+  public static final CountSystem HI_LO =
+      new CountSystem("Hi-Lo", 1, 1, 1, 1, 1, 0, 0, 0, -1, -1, -1, -1, -1);
+
+  /**
+   * Knock-Out: 2 to 7 count +1, 8 and 9 count 0, Ten to Ace count -1. Unbalanced.
+   */
+  public static final CountSystem KO =
+      new CountSystem("KO", 1, 1, 1, 1, 1, 1, 0, 0, -1, -1, -1, -1, -1);
+
+  /**
+   * Omega II: a level two system which counts Aces as 0. Balanced.
+   */
+  public static final CountSystem OMEGA_II =
+      new CountSystem("Omega II", 1, 1, 2, 2, 2, 1, 0, -1, -2, -2, -2, -2, 0);
+
+  /**
+   * The name of the system. For example, "Hi-Lo"
+   */
+  private final String name;
+
+  /**
+   * The weight of every card, indexed by {@link IntCard} code.
+   */
+  private final byte[] weights = new byte[IntCard.COUNT];
+
+  /**
+   * The sum of the weights over a single deck. Zero for a balanced system.
+   */
+  private final int imbalance;
+
+  /**
+   * Constructor.
+   *
+   * @param name          the name of the system
+   * @param weightsByRank the weight of each rank, indexed by {@link Rank} ordinal from TWO to ACE
+   * @throws IllegalArgumentException if there is not exactly one weight per rank
+   * @throws NullPointerException if either argument is {@code null}
+   */
+  public CountSystem(String name, int... weightsByRank) {
+    this.name = Objects.requireNonNull(name, "You must pass a non null name.");
+    if (weightsByRank.length != Rank.COUNT) {
+      throw new IllegalArgumentException("A count system needs one weight per rank, not "
+          + weightsByRank.length);
+    }
+    int sum = 0;
+    for (int code = 0; code < IntCard.COUNT; code++) {
+      weights[code] = (byte) weightsByRank[IntCard.rankOrdinal(code)];
+      sum += weights[code];
+    }
+    this.imbalance = sum;
+  }
+
+  /**
+   * Returns the weight of a card.
+   *
+   * @param card the card seen
+   * @return the amount to add to the running count
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public int weight(Card card) {
+    return weights[IntCard.encode(card)];
+  }
+
+  /**
+   * Returns the weight of every card with the given {@link Rank}.
+   *
+   * @param rank the rank of the card seen
+   * @return the amount to add to the running count
+   */
+  public int weight(Rank rank) {
+    return weights[IntCard.encode(rank, Suit.CLUBS)];
+  }
+
+  /**
+   * Returns the weight of the card with the given code.
+   *
+   * @param code the card code, from 0 to 51
+   * @return the amount to add to the running count
+   */
+  public int weight(int code) {
+    return weights[code];
+  }
+
+  /**
+   * Returns {@code true} if the weights of a full deck sum to zero, so the running count can be
+   * converted to a true count.
+   *
+   * @return {@code true} if the system is balanced
+   */
+  public boolean isBalanced() {
+    return imbalance == 0;
+  }
+
+  /**
+   * Returns the running count at the start of a shoe. Balanced systems start at zero. Unbalanced
+   * systems start below zero by their imbalance for every deck after the first, so the count
+   * reaches the same pivot regardless of the number of decks.
+   *
+   * @param numOfDecks the number of decks in the shoe
+   * @return the initial running count
+   */
+  public int initialCount(int numOfDecks) {
+    return -imbalance * (numOfDecks - 1);
+  }
+
+  /**
+   * Returns the name of the system. For example, "Hi-Lo"
+   *
+   * @return the name of the system
+   */
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
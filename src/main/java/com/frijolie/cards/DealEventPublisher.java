@@ -0,0 +1,243 @@
+package com.frijolie.cards;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * Publishes the deal as a stream of compact events, so that counters, auditors and analytics can
+ * follow it on their own threads. Register the publisher as a {@link DealListener} with a {@link
+ * Deck}, {@link Shoe} or {@link ContinuousShuffler}, and {@link #subscribe(Flow.Subscriber)
+ * subscribe} consumers to it.
+ *
+ * <p>Each event is a single {@code long}: its {@link EventType} ordinal in bits 32 to 39, and below
+ * them either the {@link IntCard} code of the card or, for a shuffle or reset, the number of cards
+ * remaining. {@link #typeOf(long)} and {@link #payloadOf(long)} take an event apart. Events are
+ * written to a primitive array on the dealing thread, and only a full batch is handed to the
+ * underlying {@link SubmissionPublisher}, so dealing a card costs an array store rather than a
+ * hand-off between threads. Call {@link #flush()} to publish a partial batch.
+ *
+ * <p>When a subscriber falls behind by the maximum number of buffered batches, the dealing thread
+ * either waits for it to catch up, losing nothing, or drops the batch and carries on, counting the
+ * events lost in {@link #getDropped()}.
+ *
+ * <p>The listener methods must all be called from one dealing thread at a time. Subscribers may
+ * run anywhere.
+ *
+ * @see DealListener
+ */
+public class DealEventPublisher implements DealListener, Flow.Publisher<long[]>, AutoCloseable {
+
+  /**
+   * The number of events in a batch when the caller does not say.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 256;
+
+  /**
+   * The bit position of the {@link EventType} ordinal within an event.
+   */
+  private static final int TYPE_SHIFT = 32;
+
+  /**
+   * Cached copy of {@link EventType#values()}, so decoding does not clone the array.
+   */
+  private static final EventType[] TYPES = EventType.values();
+
+  /**
+   * The kinds of deal event.
+   */
+  public enum EventType {
+    /** A card was dealt face up. The payload is its code. */
+    DRAWN,
+    /** A card was dealt face down. The payload is its code. */
+    BURNED,
+    /** A card was returned to a continuous shuffler. The payload is its code. */
+    DISCARDED,
+    /** The undealt cards were shuffled. The payload is the number remaining. */
+    SHUFFLED,
+    /** Every dealt card was returned. The payload is the number remaining. */
+    RESET
+  }
+
+  /**
+   * The publisher which delivers batches to subscribers.
+   */
+  private final SubmissionPublisher<long[]> publisher;
+
+  /**
+   * The number of events in a full batch.
+   */
+  private final int batchSize;
+
+  /**
+   * {@code true} to drop batches for subscribers which have fallen behind, rather than wait.
+   */
+  private final boolean dropWhenFull;
+
+  /**
+   * The batch being filled.
+   */
+  private long[] batch;
+
+  /**
+   * The number of events in the batch being filled.
+   */
+  private int size;
+
+  /**
+   * The number of events which were not delivered to at least one subscriber. Only written by the
+   * dealing thread.
+   */
+  private volatile long dropped;
+
+  /**
+   * Constructor. Delivers batches of {@link #DEFAULT_BATCH_SIZE} events on the common pool, waiting
+   * for subscribers which fall behind.
+   */
+  public DealEventPublisher() {
+    this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE, Flow.defaultBufferSize(), false);
+  }
+
+  /**
+   * Overloaded constructor.
+   *
+   * @param executor     the executor which delivers batches to subscribers
+   * @param batchSize    the number of events in a full batch
+   * @param maxBuffered  the number of batches each subscriber may fall behind by
+   * @param dropWhenFull {@code true} to drop batches for a subscriber which has fallen behind, or
+   *                     {@code false} to make the dealing thread wait for it
+   * @throws IllegalArgumentException if {@code batchSize} or {@code maxBuffered} is less than one
+   * @throws NullPointerException if {@code executor} is {@code null}
+   */
+  public DealEventPublisher(Executor executor, int batchSize, int maxBuffered,
+      boolean dropWhenFull) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("A batch must hold at least one event: " + batchSize);
+    }
+    this.publisher = new SubmissionPublisher<>(executor, maxBuffered);
+    this.batchSize = batchSize;
+    this.dropWhenFull = dropWhenFull;
+    this.batch = new long[batchSize];
+  }
+
+  /**
+   * Returns the event of the given type with the given payload.
+   *
+   * @param type    the type of event
+   * @param payload the card code, or the number of cards remaining
+   * @return the event
+   */
+  public static long event(EventType type, int payload) {
+    return (long) type.ordinal() << TYPE_SHIFT | Integer.toUnsignedLong(payload);
+  }
+
+  /**
+   * Returns the type of an event.
+   *
+   * @param event the event
+   * @return its type
+   */
+  public static EventType typeOf(long event) {
+    return TYPES[(int) (event >>> TYPE_SHIFT)];
+  }
+
+  /**
+   * Returns the payload of an event: the {@link IntCard} code of the card for {@code DRAWN}, {@code
+   * BURNED} and {@code DISCARDED}, or the number of cards remaining for {@code SHUFFLED} and {@code
+   * RESET}.
+   *
+   * @param event the event
+   * @return its payload
+   */
+  public static int payloadOf(long event) {
+    return (int) event;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super long[]> subscriber) {
+    publisher.subscribe(subscriber);
+  }
+
+  @Override
+  public void cardDrawn(Card card) {
+    emit(event(EventType.DRAWN, IntCard.encode(card)));
+  }
+
+  @Override
+  public void cardBurned(Card card) {
+    emit(event(EventType.BURNED, IntCard.encode(card)));
+  }
+
+  @Override
+  public void cardDiscarded(Card card) {
+    emit(event(EventType.DISCARDED, IntCard.encode(card)));
+  }
+
+  @Override
+  public void shuffled(int remaining) {
+    emit(event(EventType.SHUFFLED, remaining));
+  }
+
+  @Override
+  public void reset(int remaining) {
+    emit(event(EventType.RESET, remaining));
+  }
+
+  /**
+   * Publishes the batch being filled, even if it is not full.
+   */
+  public void flush() {
+    if (size > 0) {
+      publish(size == batch.length ? batch : Arrays.copyOf(batch, size));
+    }
+  }
+
+  /**
+   * Returns the number of events which were dropped for at least one subscriber. Always zero
+   * unless the publisher was created to drop batches.
+   *
+   * @return the number of dropped events
+   */
+  public long getDropped() {
+    return dropped;
+  }
+
+  /**
+   * Publishes any partial batch and then completes every subscriber. Later events are ignored.
+   */
+  @Override
+  public void close() {
+    flush();
+    publisher.close();
+  }
+
+  /**
+   * Adds an event to the batch, publishing it once it is full.
+   */
+  private void emit(long event) {
+    batch[size++] = event;
+    if (size == batch.length) {
+      publish(batch);
+    }
+  }
+
+  /**
+   * Hands a batch to the subscribers and starts a new one.
+   */
+  private void publish(long[] events) {
+    batch = new long[batchSize];
+    size = 0;
+    if (publisher.isClosed()) {
+      return;
+    }
+    if (dropWhenFull) {
+      if (publisher.offer(events, null) < 0) {
+        dropped += events.length;
+      }
+    } else {
+      publisher.submit(events);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.frijolie.cards;
+
+/**
+ * Receives a callback whenever cards leave or return to a {@link Deck}, {@link Shoe} or {@link
+ * ContinuousShuffler}. Register one with {@link Deck#addDealListener(DealListener)} or its
+ * counterparts.
+ *
+ * <p>Callbacks run on the dealing thread, in the middle of the deal, so they should be quick and
+ * must not modify the deck. Every method does nothing by default, so a listener only overrides the
+ * events it cares about.
+ *
+ * @see Deck
+ * @see RunningCount
+ * @see DealEventPublisher
+ */
+public interface DealListener {
+
+  /**
+   * Called after a card has been dealt face up.
+   *
+   * @param card the card which was drawn
+   */
+  default void cardDrawn(Card card) {
+  }
+
+  /**
+   * Called after a card has been dealt face down and discarded without being seen.
+   *
+   * @param card the card which was burned
+   */
+  default void cardBurned(Card card) {
+  }
+
+  /**
+   * Called after a card has been returned to a {@link ContinuousShuffler}.
+   *
+   * @param card the card which was discarded
+   */
+  default void cardDiscarded(Card card) {
+  }
+
+  /**
+   * Called after the undealt cards have been shuffled.
+   *
+   * @param remaining the number of cards which have not been dealt
+   */
+  default void shuffled(int remaining) {
+  }
+
+  /**
+   * Called after every dealt card has been returned to the deck, without shuffling.
+   *
+   * @param remaining the number of cards which have not been dealt
+   */
+  default void reset(int remaining) {
+  }
+}
@@ -0,0 +1,58 @@
+package com.frijolie.cards;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Copy-on-write helpers for the listener arrays kept by {@link Deck} and {@link
+ * ContinuousShuffler}. An array is replaced rather than modified, so a deal which is iterating over
+ * it is never disturbed.
+ */
+final class DealListeners {
+
+  /**
+   * An array with no listeners, shared by every dealer which has none.
+   */
+  static final DealListener[] NONE = new DealListener[0];
+
+  /**
+   * This class only contains static methods.
+   */
+  private DealListeners() {
+  }
+
+  /**
+   * Returns a copy of an array with a listener added at the end.
+   *
+   * @param listeners the current listeners
+   * @param listener  the listener to add
+   * @return the new array of listeners
+   * @throws NullPointerException if {@code listener} is {@code null}
+   */
+  static DealListener[] add(DealListener[] listeners, DealListener listener) {
+    Objects.requireNonNull(listener, "You must pass a non null listener.");
+    DealListener[] added = Arrays.copyOf(listeners, listeners.length + 1);
+    added[listeners.length] = listener;
+    return added;
+  }
+
+  /**
+   * Returns a copy of an array with the first occurrence of a listener removed, or the same array
+   * if it does not hold the listener.
+   *
+   * @param listeners the current listeners
+   * @param listener  the listener to remove
+   * @return the new array of listeners
+   */
+  static DealListener[] remove(DealListener[] listeners, DealListener listener) {
+    for (int i = 0; i < listeners.length; i++) {
+      if (listeners[i] == listener) {
+        DealListener[] removed = new DealListener[listeners.length - 1];
+        System.arraycopy(listeners, 0, removed, 0, i);
+        System.arraycopy(listeners, i + 1, removed, i, removed.length - i);
+        return removed;
+      }
+    }
+    return listeners;
+  }
+}
@@ -2,9 +2,11 @@ package com.frijolie.cards;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * A collection of {@link PlayingCard}s. A full standard deck will contain 52 cards. The deck is
@@ -19,14 +21,69 @@ import java.util.stream.IntStream;
  * overloaded constructor which allows the creation of multiple decks and to shuffle the deck after
  * instantiation.
  *
+ * <p>Every deck is filled with the canonical {@link PlayingCard} instances, so building a deck only
+ * allocates the array which holds them.
+ *
+ * <p>Shuffling is an in-place Fisher–Yates over that array. By default it draws from {@link
+ * ThreadLocalRandom}, so decks on different threads never contend. A {@link RandomGenerator} can be
+ * supplied instead, for a faster algorithm or a seeded, reproducible order. A generator is not
+ * thread-safe, so give each thread its own, for example by calling {@link
+ * java.util.random.RandomGenerator.SplittableGenerator#split()} once per thread.
+ *
+ * <p>Cards are dealt with {@link #draw()} and its relatives, which advance a cursor into the array
+ * rather than removing anything from it. Dealing a card is a constant-time index bump, and {@link
+ * #reset()} returns every dealt card to the deck. A {@link DealListener} can be registered to
+ * observe every card as it is dealt, and builds, shuffles and deals are reported to the installed
+ * {@link DeckMetrics}.
+ *
+ * <p>A deck made by {@link #lazy(DeckSpec, int, RandomGenerator)} defers its shuffle. Shuffling it
+ * only records the generator, and each card is chosen as it is dealt by one step of a forward
+ * Fisher–Yates shuffle: a swap with a random card from the rest of the deck. Until then a slot
+ * holds no card at all and stands for the card of an unshuffled deck at that index. Dealing a few
+ * cards from a large shoe therefore costs only those few steps, whatever its size. The order is
+ * just as random as an eager shuffle, but differs from the order the same seeded generator gives
+ * an eager deck.
+ *
  * @see PlayingCard
  */
 public class Deck {
 
   /**
-   * A List to contain all of the cards in the deck.
+   * An array to contain all of the cards in the deck.
    */
-  private final List<Card> deck;
+  private final Card[] deck;
+
+  /**
+   * The composition of each deck, which supplies the cards a lazy deck has not yet placed.
+   */
+  private final DeckSpec spec;
+
+  /**
+   * The source of randomness used by {@link #shuffle()}, or {@code null} to use {@link
+   * ThreadLocalRandom}.
+   */
+  private final RandomGenerator random;
+
+  /**
+   * The index of the next card to be dealt. Cards before it have been dealt.
+   */
+  private int cursor;
+
+  /**
+   * The index up to which the order of the cards is decided. Cards from it onwards are waiting to
+   * be chosen by a lazy shuffle. Always the length of the deck unless the deck is lazy.
+   */
+  private int settled;
+
+  /**
+   * The source of randomness of a pending lazy shuffle.
+   */
+  private RandomGenerator pending;
+
+  /**
+   * The registered listeners. Replaced, never modified, when a listener is added or removed.
+   */
+  private DealListener[] listeners = DealListeners.NONE;
 
   /**
    * Default no-arg constructor.
@@ -43,38 +100,391 @@ public class Deck {
    * @param shuffled   {@code true} if you wish to shuffle the deck afterwards
    */
   public Deck(int numOfDecks, boolean shuffled) {
-    deck = new ArrayList<>();
-    IntStream.range(0, numOfDecks).forEach(i -> populateDeck());
-    if (shuffled) {
-      shuffle();
+    this(DeckSpec.STANDARD, numOfDecks, shuffled, false, null);
+  }
+
+  /**
+   * Overloaded constructor. Allows for multiple decks, shuffled with the given source of
+   * randomness. The generator is kept and used again by {@link #shuffle()}, so a seeded generator
+   * gives a reproducible sequence of shuffles.
+   *
+   * @param numOfDecks the number of decks to create
+   * @param random     the source of randomness
+   * @throws NullPointerException if {@code random} is {@code null}
+   */
+  public Deck(int numOfDecks, RandomGenerator random) {
+    this(DeckSpec.STANDARD, numOfDecks, true, false, requireRandom(random));
+  }
+
+  /**
+   * Overloaded constructor. Creates a shoe in the order of a seeded shuffle, which can be
+   * regenerated exactly from the seed, the number of decks and the algorithm version. Later calls
+   * to {@link #shuffle()} use {@link ThreadLocalRandom}.
+   *
+   * @param shuffle the seeded shuffle
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public Deck(SeededShuffle shuffle) {
+    this(DeckSpec.STANDARD, shuffle.getNumOfDecks(), false, false, null);
+    shuffle.getAlgorithm().shuffle(deck, shuffle.getSeed());
+  }
+
+  /**
+   * Overloaded constructor. Creates multiple decks of a variant composition, such as {@link
+   * DeckSpec#PINOCHLE}, optionally shuffled.
+   *
+   * @param spec       the composition of each deck
+   * @param numOfDecks the number of decks to create
+   * @param shuffled   {@code true} if you wish to shuffle the deck afterwards
+   * @throws NullPointerException if {@code spec} is {@code null}
+   */
+  public Deck(DeckSpec spec, int numOfDecks, boolean shuffled) {
+    this(spec, numOfDecks, shuffled, false, null);
+  }
+
+  /**
+   * Overloaded constructor. Creates multiple decks of a variant composition, shuffled with the
+   * given source of randomness, which is kept for {@link #shuffle()}.
+   *
+   * @param spec       the composition of each deck
+   * @param numOfDecks the number of decks to create
+   * @param random     the source of randomness
+   * @throws NullPointerException if either object argument is {@code null}
+   */
+  public Deck(DeckSpec spec, int numOfDecks, RandomGenerator random) {
+    this(spec, numOfDecks, true, false, requireRandom(random));
+  }
+
+  /**
+   * Creates a lazily shuffled standard shoe, which decides the position of each card only as it is
+   * dealt. The generator is kept and used again by {@link #shuffle()}.
+   *
+   * @param numOfDecks the number of decks to create
+   * @param random     the source of randomness
+   * @return a shuffled lazy deck
+   * @throws NullPointerException if {@code random} is {@code null}
+   * @see #lazy(DeckSpec, int, RandomGenerator)
+   */
+  public static Deck lazy(int numOfDecks, RandomGenerator random) {
+    return lazy(DeckSpec.STANDARD, numOfDecks, random);
+  }
+
+  /**
+   * Creates a lazily shuffled shoe of a variant composition. Building it only allocates its array,
+   * every later {@link #shuffle()} takes constant time, and each card dealt costs one step of the
+   * shuffle. Methods which expose the undealt cards, such as {@link #getDeck()}, complete the
+   * shuffle first.
+   *
+   * @param spec       the composition of each deck
+   * @param numOfDecks the number of decks to create
+   * @param random     the source of randomness
+   * @return a shuffled lazy deck
+   * @throws NullPointerException if either object argument is {@code null}
+   */
+  public static Deck lazy(DeckSpec spec, int numOfDecks, RandomGenerator random) {
+    return new Deck(spec, numOfDecks, true, true, requireRandom(random));
+  }
+
+  /**
+   * Creates the deck.
+   *
+   * @param spec       the composition of each deck
+   * @param numOfDecks the number of decks to create
+   * @param shuffled   {@code true} to shuffle the deck afterwards, if it is not lazy
+   * @param lazy       {@code true} to leave the cards unplaced, for a lazy shuffle
+   * @param random     the source of randomness, or {@code null} to use {@link ThreadLocalRandom}
+   */
+  private Deck(DeckSpec spec, int numOfDecks, boolean shuffled, boolean lazy,
+      RandomGenerator random) {
+    this.spec = Objects.requireNonNull(spec, "You must pass a non null deck spec.");
+    Instrumentation.DeckBuildEvent event = new Instrumentation.DeckBuildEvent();
+    event.begin();
+    final long start = Instrumentation.start();
+    this.deck = new Card[numOfDecks * spec.size()];
+    this.random = random;
+    if (lazy) {
+      pending = random;
+    } else {
+      for (int i = 0; i < numOfDecks; i++) {
+        populateDeck(spec, i * spec.size());
+      }
+      settled = deck.length;
+      if (shuffled) {
+        Shuffler.shuffle(deck, 0, deck.length, random());
+      }
     }
+    Instrumentation.deckBuilt(event, deck.length, start);
   }
 
   /**
-   * Populates a full deck of cards. It will contain every rank within every suit (52 unique cards).
+   * Populates a full deck of cards, copied from the compiled template of the spec. A standard deck
+   * will contain every rank within every suit (52 unique cards).
+   *
+   * @param spec the composition of the deck
+   * @param pos  the index of the first card to populate
    */
-  private void populateDeck() {
-    Arrays.stream(Suit.values())
-        .forEach(
-            suit ->
-                Arrays.stream(Rank.values())
-                    .map(rank -> new PlayingCard(rank, suit))
-                    .forEach(deck::add));
+  private void populateDeck(DeckSpec spec, int pos) {
+    spec.copyTo(deck, pos);
   }
 
   /**
-   * Returns a List of all the cards contained in the current deck.
+   * Returns a List of all the cards contained in the current deck, in the order they will be dealt.
+   * Cards which have been dealt are not included.
    *
    * @return List that contains all cards in the Deck
    */
   public List<Card> getDeck() {
-    return new ArrayList<>(deck);
+    settle(deck.length);
+    return new ArrayList<>(Arrays.asList(deck).subList(cursor, deck.length));
+  }
+
+  /**
+   * Removes and returns the next card.
+   *
+   * @return the next card
+   * @throws NoSuchElementException if there are no cards remaining
+   */
+  public Card draw() {
+    if (cursor == deck.length) {
+      throw new NoSuchElementException("There are no cards remaining in the deck.");
+    }
+    settle(cursor + 1);
+    Card card = deck[cursor++];
+    Instrumentation.cardsDealt(1);
+    for (DealListener listener : listeners) {
+      listener.cardDrawn(card);
+    }
+    return card;
+  }
+
+  /**
+   * Removes the next {@code n} cards and copies them into the start of {@code buffer}, in the order
+   * they were dealt. Either all of the cards are dealt or none are.
+   *
+   * @param buffer the array to fill
+   * @param n      the number of cards to draw
+   * @throws NullPointerException if {@code buffer} is {@code null}
+   * @throws IllegalArgumentException if {@code n} is negative or larger than {@code buffer}
+   * @throws NoSuchElementException if fewer than {@code n} cards remain
+   */
+  public void draw(Card[] buffer, int n) {
+    Objects.requireNonNull(buffer, "You must pass a non null buffer to draw into.");
+    if (n < 0 || n > buffer.length) {
+      throw new IllegalArgumentException("Cannot draw " + n + " cards into a buffer of "
+          + buffer.length);
+    }
+    if (n > remaining()) {
+      throw new NoSuchElementException("Cannot draw " + n + " cards, only " + remaining()
+          + " remain in the deck.");
+    }
+    settle(cursor + n);
+    System.arraycopy(deck, cursor, buffer, 0, n);
+    cursor += n;
+    Instrumentation.cardsDealt(n);
+    for (DealListener listener : listeners) {
+      for (int i = 0; i < n; i++) {
+        listener.cardDrawn(buffer[i]);
+      }
+    }
   }
 
   /**
-   * Shuffles the current deck of cards.
+   * Returns the next card, without removing it.
+   *
+   * @return the next card
+   * @throws NoSuchElementException if there are no cards remaining
+   */
+  public Card peek() {
+    if (cursor == deck.length) {
+      throw new NoSuchElementException("There are no cards remaining in the deck.");
+    }
+    settle(cursor + 1);
+    return deck[cursor];
+  }
+
+  /**
+   * Removes the next card without revealing it.
+   *
+   * @throws NoSuchElementException if there are no cards remaining
+   */
+  public void burn() {
+    if (cursor == deck.length) {
+      throw new NoSuchElementException("There are no cards remaining in the deck.");
+    }
+    settle(cursor + 1);
+    Card card = deck[cursor++];
+    Instrumentation.cardsDealt(1);
+    for (DealListener listener : listeners) {
+      listener.cardBurned(card);
+    }
+  }
+
+  /**
+   * Returns the number of cards which have not been dealt.
+   *
+   * @return the number of remaining cards
+   */
+  public int remaining() {
+    return deck.length - cursor;
+  }
+
+  /**
+   * Returns the number of cards in the deck, including those which have been dealt.
+   *
+   * @return the total number of cards
+   */
+  public int size() {
+    return deck.length;
+  }
+
+  /**
+   * Returns every dealt card to the deck, in the order they were dealt. The deck is not shuffled.
+   */
+  public void reset() {
+    cursor = 0;
+    for (DealListener listener : listeners) {
+      listener.reset(deck.length);
+    }
+  }
+
+  /**
+   * Shuffles the cards which have not been dealt, using the source of randomness given to the
+   * constructor or {@link ThreadLocalRandom} if there was none. Call {@link #reset()} first to
+   * shuffle the whole deck.
+   */
+  public void shuffle() {
+    shuffle(random());
+  }
+
+  /**
+   * Shuffles the cards which have not been dealt, using the given source of randomness. A lazy
+   * deck keeps the generator and draws from it as cards are dealt.
+   *
+   * @param random the source of randomness
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public void shuffle(RandomGenerator random) {
+    requireRandom(random);
+    Instrumentation.ShuffleEvent event = new Instrumentation.ShuffleEvent();
+    event.begin();
+    final long start = Instrumentation.start();
+    int shuffled = 0;
+    if (isLazy()) {
+      settled = cursor;
+      pending = random;
+    } else {
+      Shuffler.shuffle(deck, cursor, deck.length, random);
+      shuffled = remaining();
+    }
+    Instrumentation.shuffled(event, shuffled, start);
+    fireShuffled();
+  }
+
+  /**
+   * Returns {@code true} if this deck was made by {@link #lazy(DeckSpec, int, RandomGenerator)}
+   * and places its cards as they are dealt.
+   *
+   * @return {@code true} if the deck is lazy
+   */
+  public boolean isLazy() {
+    return pending != null;
+  }
+
+  /**
+   * Registers a listener to be told about every card dealt from this deck.
+   *
+   * @param listener the listener to add
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public void addDealListener(DealListener listener) {
+    listeners = DealListeners.add(listeners, listener);
+  }
+
+  /**
+   * Removes a listener added by {@link #addDealListener(DealListener)}.
+   *
+   * @param listener the listener to remove
+   * @return {@code true} if the listener was registered
+   */
+  public boolean removeDealListener(DealListener listener) {
+    DealListener[] removed = DealListeners.remove(listeners, listener);
+    if (removed == listeners) {
+      return false;
+    }
+    listeners = removed;
+    return true;
+  }
+
+  /**
+   * Tells every listener that the undealt cards have been shuffled.
+   */
+  private void fireShuffled() {
+    for (DealListener listener : listeners) {
+      listener.shuffled(remaining());
+    }
+  }
+
+  /**
+   * Replaces the cards of this deck with those of another deck of the same size, in the same order,
+   * with none of them dealt. The other deck is not modified. Listeners are told of a reset and then
+   * a shuffle, just as if {@link #reset()} and {@link #shuffle()} had been called.
+   *
+   * @param that the deck to copy
+   */
+  void replaceWith(Deck that) {
+    that.settle(that.deck.length);
+    settle(deck.length);
+    System.arraycopy(that.deck, 0, deck, 0, deck.length);
+    reset();
+    fireShuffled();
+  }
+
+  /**
+   * Decides the order of the cards up to the given index, one step of a forward Fisher–Yates
+   * shuffle per card. Each step swaps the next undecided slot with a random slot at or after it.
+   * Does nothing unless the deck is lazy.
+   *
+   * @param to the index after the last card whose position must be decided
+   */
+  private void settle(int to) {
+    for (int i = settled; i < to; i++) {
+      int j = pending.nextInt(i, deck.length);
+      Card card = cardAt(j);
+      deck[j] = cardAt(i);
+      deck[i] = card;
+    }
+    settled = Math.max(settled, to);
+  }
+
+  /**
+   * Returns the card in a slot, or the card of an unshuffled deck at that index if a lazy shuffle
+   * has not yet placed one there.
+   *
+   * @param index the index of the slot
+   * @return the card in the slot
+   */
+  private Card cardAt(int index) {
+    Card card = deck[index];
+    return card != null ? card : spec.get(index % spec.size());
+  }
+
+  /**
+   * Returns the source of randomness for {@link #shuffle()}.
+   *
+   * @return the generator given to the constructor, or the current {@link ThreadLocalRandom}
+   */
+  private RandomGenerator random() {
+    return random != null ? random : ThreadLocalRandom.current();
+  }
+
+  /**
+   * Checks that a source of randomness was supplied.
+   *
+   * @param random the source of randomness
+   * @return the argument
+   * @throws NullPointerException if the argument is {@code null}
    */
-  private void shuffle() {
-    Collections.shuffle(deck);
+  static RandomGenerator requireRandom(RandomGenerator random) {
+    return Objects.requireNonNull(random, "You must pass a non null source of randomness.");
   }
 }
@@ -0,0 +1,71 @@
+package com.frijolie.cards;
+
+/**
+ * A service which is told about the work done by every {@link Deck}, including those inside a
+ * {@link Shoe} or {@link Simulation}: decks built, shuffles performed and cards dealt, with the
+ * time taken to build and shuffle.
+ *
+ * <p>Instrumentation is opt-in. When the library is first used, it asks {@link
+ * java.util.ServiceLoader} for an implementation of this interface, and uses the first one found
+ * for the life of the JVM. To provide one, declare it in your module with {@code provides
+ * com.frijolie.cards.DeckMetrics with ...}, or list it in {@code
+ * META-INF/services/com.frijolie.cards.DeckMetrics} on the class path. {@link DeckStatistics} is a
+ * ready-made implementation.
+ *
+ * <p>When no implementation is found, {@link #NOOP} is used and every hook is behind a constant
+ * {@code false} check, which the JIT compiler removes along with the timing calls it guards.
+ *
+ * <p>Hooks are called on the dealing thread, so they must be thread-safe and quick. Every method
+ * does nothing by default.
+ *
+ * <p>Independently of this interface, building and shuffling a deck also emit the JFR events
+ * {@code com.frijolie.cards.DeckBuild} and {@code com.frijolie.cards.Shuffle}, which cost nothing
+ * unless a flight recording enables them.
+ *
+ * @see DeckStatistics
+ */
+public interface DeckMetrics {
+
+  /**
+   * The implementation used when none is installed. Does nothing.
+   */
+  DeckMetrics NOOP = new DeckMetrics() {
+  };
+
+  /**
+   * Returns the implementation found by {@link java.util.ServiceLoader}, or {@link #NOOP}.
+   *
+   * @return the installed implementation
+   */
+  static DeckMetrics installed() {
+    return Instrumentation.METRICS;
+  }
+
+  /**
+   * Called after a deck has been built, and shuffled if it was asked to be.
+   *
+   * @param cards the number of cards in the deck
+   * @param nanos the time taken, in nanoseconds
+   */
+  default void deckBuilt(int cards, long nanos) {
+  }
+
+  /**
+   * Called after the undealt cards of a deck have been shuffled. A {@link Deck#lazy(DeckSpec, int,
+   * java.util.random.RandomGenerator) lazy} deck only records the generator when it is shuffled,
+   * and places each card as it is dealt, so its shuffles report no cards.
+   *
+   * @param cards the number of cards shuffled, or 0 for a lazy deck
+   * @param nanos the time taken, in nanoseconds
+   */
+  default void shuffled(int cards, long nanos) {
+  }
+
+  /**
+   * Called after cards have been dealt from a deck, face up or face down.
+   *
+   * @param cards the number of cards dealt
+   */
+  default void cardsDealt(int cards) {
+  }
+}
@@ -0,0 +1,180 @@
+package com.frijolie.cards;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The composition of a single deck: which ranks and suits it holds, and how many copies of each
+ * card. Variant decks such as piquet, euchre, pinochle and Spanish 21 are provided as constants.
+ *
+ * <p>A spec is compiled once, when it is created, into a template array of canonical cards in
+ * ordinal order. Building a {@link Deck} from it copies that template once per deck, so no variant
+ * costs more to build than a standard deck. Instances are immutable.
+ *
+ * <p>Jokers are not supported, because a {@link Card} must have a {@link Rank} and a {@link Suit}.
+ *
+ * @see Deck#Deck(DeckSpec, int, boolean)
+ */
+public final class DeckSpec {
+
+  /**
+   * The standard 52 card deck.
+   */
+  public static final DeckSpec STANDARD =
+      new DeckSpec("Standard", EnumSet.allOf(Rank.class), EnumSet.allOf(Suit.class), 1);
+
+  /**
+   * The 32 card piquet deck, Seven to Ace in every suit. Also used for belote and skat.
+   */
+  public static final DeckSpec PIQUET =
+      new DeckSpec("Piquet", EnumSet.range(Rank.SEVEN, Rank.ACE), EnumSet.allOf(Suit.class), 1);
+
+  /**
+   * The 24 card euchre deck, Nine to Ace in every suit.
+   */
+  public static final DeckSpec EUCHRE =
+      new DeckSpec("Euchre", EnumSet.range(Rank.NINE, Rank.ACE), EnumSet.allOf(Suit.class), 1);
+
+  /**
+   * The 48 card pinochle deck, two of every card from Nine to Ace.
+   */
+  public static final DeckSpec PINOCHLE =
+      new DeckSpec("Pinochle", EnumSet.range(Rank.NINE, Rank.ACE), EnumSet.allOf(Suit.class), 2);
+
+  /**
+   * The 48 card Spanish 21 deck, a standard deck with the Tens removed. The face cards remain.
+   */
+  public static final DeckSpec SPANISH_21 = new DeckSpec("Spanish 21",
+      EnumSet.complementOf(EnumSet.of(Rank.TEN)), EnumSet.allOf(Suit.class), 1);
+
+  /**
+   * The name of the deck. For example, "Euchre"
+   */
+  private final String name;
+
+  /**
+   * The distinct cards of the deck, in the {@link CardSet} bit layout.
+   */
+  private final long mask;
+
+  /**
+   * The number of copies of each distinct card.
+   */
+  private final int copies;
+
+  /**
+   * The cards of a single deck, in ordinal order, with the copies of each card together.
+   */
+  private final Card[] template;
+
+  /**
+   * Constructor.
+   *
+   * @param name   the name of the deck
+   * @param ranks  the ranks in every suit of the deck
+   * @param suits  the suits of the deck
+   * @param copies the number of copies of each card
+   * @throws IllegalArgumentException if {@code ranks} or {@code suits} is empty, or {@code copies}
+   *                                  is less than one
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  public DeckSpec(String name, Set<Rank> ranks, Set<Suit> suits, int copies) {
+    this.name = Objects.requireNonNull(name, "You must pass a non null name.");
+    Objects.requireNonNull(ranks, "You must pass a non null set of ranks.");
+    Objects.requireNonNull(suits, "You must pass a non null set of suits.");
+    if (ranks.isEmpty() || suits.isEmpty() || copies < 1) {
+      throw new IllegalArgumentException("A deck needs at least one rank, one suit and one copy.");
+    }
+    long ranksMask = 0;
+    for (Rank rank : ranks) {
+      ranksMask |= CardSet.rankMask(rank);
+    }
+    long suitsMask = 0;
+    for (Suit suit : suits) {
+      suitsMask |= CardSet.suitMask(suit);
+    }
+    this.mask = ranksMask & suitsMask;
+    this.copies = copies;
+    this.template = new Card[Long.bitCount(mask) * copies];
+    int i = 0;
+    for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+      PlayingCard card = PlayingCard.of(Long.numberOfTrailingZeros(remaining));
+      for (int copy = 0; copy < copies; copy++) {
+        template[i++] = card;
+      }
+    }
+  }
+
+  /**
+   * Copies the cards of one deck, in ordinal order, into {@code dest} starting at {@code pos}.
+   *
+   * @param dest the array to fill
+   * @param pos  the first index to write
+   */
+  void copyTo(Card[] dest, int pos) {
+    System.arraycopy(template, 0, dest, pos, template.length);
+  }
+
+  /**
+   * Returns the card at an index of one deck, in ordinal order.
+   *
+   * @param index the index, from 0 to {@link #size()} (exclusive)
+   * @return the card at that index
+   */
+  Card get(int index) {
+    return template[index];
+  }
+
+  /**
+   * Returns the name of the deck. For example, "Euchre"
+   *
+   * @return the name of the deck
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the number of cards in one deck, counting every copy.
+   *
+   * @return the number of cards
+   */
+  public int size() {
+    return template.length;
+  }
+
+  /**
+   * Returns the number of copies of each card in one deck.
+   *
+   * @return the number of copies
+   */
+  public int getCopies() {
+    return copies;
+  }
+
+  /**
+   * Returns the distinct cards of the deck.
+   *
+   * @return a new set of the cards
+   */
+  public CardSet getCards() {
+    return new CardSet(mask);
+  }
+
+  /**
+   * Returns {@code true} if the deck holds the given card.
+   *
+   * @param card the card to look for
+   * @return {@code true} if the card is part of the deck
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public boolean contains(Card card) {
+    return (mask & CardSet.bit(IntCard.encode(card))) != 0;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
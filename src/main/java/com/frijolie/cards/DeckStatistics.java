@@ -0,0 +1,142 @@
+package com.frijolie.cards;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link DeckMetrics} which keeps running totals and a latency histogram of shuffles. Install it
+ * as a service to read the statistics of every deck in the JVM through {@link
+ * DeckMetrics#installed()}, or create one and feed it directly.
+ *
+ * <p>Counters are {@link LongAdder}s, so dealing threads do not contend on them. The histogram has
+ * one bucket per power of two: bucket {@code i} counts the shuffles which took from {@code
+ * 2^(i-1)} (inclusive) to {@code 2^i} (exclusive) nanoseconds, and bucket 0 those which took none.
+ *
+ * @see DeckMetrics
+ */
+public class DeckStatistics implements DeckMetrics {
+
+  /**
+   * The number of buckets in the shuffle histogram, enough for any {@code long}.
+   */
+  public static final int BUCKETS = Long.SIZE + 1;
+
+  /**
+   * The number of decks built.
+   */
+  private final LongAdder decksBuilt = new LongAdder();
+
+  /**
+   * The total time spent building decks.
+   */
+  private final LongAdder buildNanos = new LongAdder();
+
+  /**
+   * The number of shuffles.
+   */
+  private final LongAdder shuffles = new LongAdder();
+
+  /**
+   * The total time spent shuffling.
+   */
+  private final LongAdder shuffleNanos = new LongAdder();
+
+  /**
+   * The number of cards dealt.
+   */
+  private final LongAdder cardsDealt = new LongAdder();
+
+  /**
+   * The number of shuffles in each power of two bucket of nanoseconds.
+   */
+  private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+  /**
+   * Default no-arg constructor. Creates statistics with every count at zero. This is the
+   * constructor {@link java.util.ServiceLoader} calls when the class is declared as a provider.
+   */
+  public DeckStatistics() {
+  }
+
+  @Override
+  public void deckBuilt(int cards, long nanos) {
+    decksBuilt.increment();
+    buildNanos.add(nanos);
+  }
+
+  @Override
+  public void shuffled(int cards, long nanos) {
+    shuffles.increment();
+    shuffleNanos.add(nanos);
+    histogram.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(Math.max(0, nanos)));
+  }
+
+  @Override
+  public void cardsDealt(int cards) {
+    cardsDealt.add(cards);
+  }
+
+  /**
+   * Returns the number of decks built.
+   *
+   * @return the number of decks
+   */
+  public long getDecksBuilt() {
+    return decksBuilt.sum();
+  }
+
+  /**
+   * Returns the total time spent building decks, including any shuffle done while building.
+   *
+   * @return the time in nanoseconds
+   */
+  public long getBuildNanos() {
+    return buildNanos.sum();
+  }
+
+  /**
+   * Returns the number of shuffles performed, not counting those done while building a deck.
+   *
+   * @return the number of shuffles
+   */
+  public long getShuffles() {
+    return shuffles.sum();
+  }
+
+  /**
+   * Returns the total time spent in those shuffles.
+   *
+   * @return the time in nanoseconds
+   */
+  public long getShuffleNanos() {
+    return shuffleNanos.sum();
+  }
+
+  /**
+   * Returns the number of cards dealt, face up or face down.
+   *
+   * @return the number of cards
+   */
+  public long getCardsDealt() {
+    return cardsDealt.sum();
+  }
+
+  /**
+   * Returns the number of shuffles in each bucket of the latency histogram.
+   *
+   * @return a copy of the {@link #BUCKETS} counts, indexed by bucket
+   */
+  public long[] getShuffleHistogram() {
+    long[] counts = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = histogram.get(i);
+    }
+    return counts;
+  }
+
+  @Override
+  public String toString() {
+    return "DeckStatistics{decksBuilt=" + getDecksBuilt() + ", shuffles=" + getShuffles()
+        + ", shuffleNanos=" + getShuffleNanos() + ", cardsDealt=" + getCardsDealt() + "}";
+  }
+}
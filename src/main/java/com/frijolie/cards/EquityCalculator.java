@@ -0,0 +1,470 @@
+package com.frijolie.cards;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Calculates the equity of Texas Hold'em hands: the share of the pot each player can expect once
+ * the board has been dealt, given their hole cards, the board so far and any dead cards.
+ *
+ * <p>Every card is held as a bit in a {@link CardSet} mask, so the live cards are found with a
+ * single complement and dealt from a flat array of codes, and each run-out is ranked by {@link
+ * PokerHandEvaluator#evaluate(long)} without allocating.
+ *
+ * <p>When every hole card is known and the board needs few enough cards, every possible run-out is
+ * enumerated and the result is exact. Otherwise run-outs are sampled, and the result carries a 95%
+ * confidence interval. Either way the work is split recursively across a {@link ForkJoinPool}, in
+ * the same way as a {@link Simulation}: tasks share nothing while they run and their tallies are
+ * merged as they join. A seeded generator gives the same sampled result on any pool.
+ *
+ * @see EquityResult
+ * @see PokerHandEvaluator
+ */
+public class EquityCalculator {
+
+  /**
+   * The number of hole cards dealt to each player.
+   */
+  public static final int HOLE_CARDS = 2;
+
+  /**
+   * The number of cards in a complete board.
+   */
+  public static final int BOARD_CARDS = 5;
+
+  /**
+   * The largest number of run-outs which are enumerated rather than sampled. Heads-up before the
+   * flop there are 1,712,304.
+   */
+  public static final long EXACT_LIMIT = 2_000_000;
+
+  /**
+   * The number of run-outs sampled when the caller does not say.
+   */
+  public static final long DEFAULT_SAMPLES = 100_000;
+
+  /**
+   * The number of samples below which a task runs them itself rather than splitting.
+   */
+  private static final long LEAF_SAMPLES = 4096;
+
+  /**
+   * The pool which runs the calculation.
+   */
+  private final ForkJoinPool pool;
+
+  /**
+   * The generator from which every worker's generator is split.
+   */
+  private final SplittableGenerator random;
+
+  /**
+   * Constructor. Runs on the common pool with an unseeded generator.
+   */
+  public EquityCalculator() {
+    this(ForkJoinPool.commonPool(), new SplittableRandom());
+  }
+
+  /**
+   * Overloaded constructor. Runs on the given pool, splitting every worker's generator from the
+   * given one. Pass a seeded generator for reproducible sampling.
+   *
+   * @param pool   the pool which runs the calculation
+   * @param random the generator from which every worker's generator is split
+   * @throws NullPointerException if either argument is {@code null}
+   */
+  public EquityCalculator(ForkJoinPool pool, SplittableGenerator random) {
+    this.pool = Objects.requireNonNull(pool, "You must pass a non null pool.");
+    this.random = Objects.requireNonNull(random, "You must pass a non null generator.");
+  }
+
+  /**
+   * Calculates the equity of each hand, exactly if feasible and otherwise by sampling {@link
+   * #DEFAULT_SAMPLES} run-outs.
+   *
+   * @param board the board dealt so far, up to five cards
+   * @param dead  cards which are out of play, such as folded or exposed cards
+   * @param hands the known hole cards of each player, up to two each. Missing hole cards are dealt
+   *              at random.
+   * @return the equity of each player, in the order given
+   * @throws IllegalArgumentException if a card appears twice, a hand or the board is too large, or
+   *                                  too few cards remain to complete the deal
+   * @throws NullPointerException if any argument is {@code null}
+   * @see #calculate(long, CardSet, CardSet, CardSet...)
+   */
+  public EquityResult calculate(CardSet board, CardSet dead, CardSet... hands) {
+    return calculate(DEFAULT_SAMPLES, board, dead, hands);
+  }
+
+  /**
+   * Calculates the equity of each hand. If every hole card is known and there are at most {@link
+   * #EXACT_LIMIT} ways to complete the board, every run-out is enumerated. Otherwise the given
+   * number of run-outs is sampled.
+   *
+   * @param samples the number of run-outs to sample if the result cannot be exact
+   * @param board   the board dealt so far, up to five cards
+   * @param dead    cards which are out of play, such as folded or exposed cards
+   * @param hands   the known hole cards of each player, up to two each. Missing hole cards are
+   *                dealt at random.
+   * @return the equity of each player, in the order given
+   * @throws IllegalArgumentException if {@code samples} or the number of hands is less than one, a
+   *                                  card appears twice, a hand or the board is too large, or too
+   *                                  few cards remain to complete the deal
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  public EquityResult calculate(long samples, CardSet board, CardSet dead, CardSet... hands) {
+    Objects.requireNonNull(board, "You must pass a non null board.");
+    Objects.requireNonNull(dead, "You must pass a non null set of dead cards.");
+    Objects.requireNonNull(hands, "You must pass a non null array of hands.");
+    if (samples < 1 || hands.length < 1) {
+      throw new IllegalArgumentException("There must be at least one sample and one hand.");
+    }
+    if (board.size() > BOARD_CARDS) {
+      throw new IllegalArgumentException("The board holds at most 5 cards: " + board);
+    }
+    long used = claim(board.toLong(), dead.toLong());
+    long[] holes = new long[hands.length];
+    int unknown = 0;
+    for (int i = 0; i < hands.length; i++) {
+      Objects.requireNonNull(hands[i], "You must pass a non null hand.");
+      if (hands[i].size() > HOLE_CARDS) {
+        throw new IllegalArgumentException("A hand holds at most 2 cards: " + hands[i]);
+      }
+      holes[i] = hands[i].toLong();
+      used = claim(used, holes[i]);
+      unknown += HOLE_CARDS - hands[i].size();
+    }
+    long live = ~used & CardSet.ALL;
+    int missing = BOARD_CARDS - board.size();
+    if (Long.bitCount(live) < unknown + missing) {
+      throw new IllegalArgumentException("Too few cards remain to complete the deal.");
+    }
+    Deal deal = new Deal(holes, board.toLong(), live, missing, unknown);
+
+    if (unknown == 0 && combinations(deal.live.length, missing) <= EXACT_LIMIT) {
+      Tally tally = missing == 0
+          ? deal.single()
+          : pool.invoke(new EnumerationTask(deal, 0, deal.live.length - missing + 1));
+      return tally.toResult(true);
+    }
+    SplittableGenerator root;
+    synchronized (random) {
+      root = random.split();
+    }
+    return pool.invoke(new SampleTask(deal, samples, root)).toResult(false);
+  }
+
+  /**
+   * Adds a mask of cards to those already in use, checking none of them are already in use.
+   *
+   * @param used  the cards already in use
+   * @param cards the cards to add
+   * @return the union of both masks
+   */
+  private static long claim(long used, long cards) {
+    if ((used & cards) != 0) {
+      throw new IllegalArgumentException("The same card must not appear twice: "
+          + new CardSet(used & cards));
+    }
+    return used | cards;
+  }
+
+  /**
+   * Returns the number of ways to choose {@code k} items from {@code n}.
+   */
+  private static long combinations(int n, int k) {
+    long result = 1;
+    for (int i = 1; i <= k; i++) {
+      result = result * (n - k + i) / i;
+    }
+    return result;
+  }
+
+  /**
+   * The fixed part of a calculation, shared read-only by every task.
+   */
+  private static final class Deal {
+
+    /**
+     * The known hole cards of each player.
+     */
+    private final long[] holes;
+
+    /**
+     * The board dealt so far.
+     */
+    private final long board;
+
+    /**
+     * The codes of every card which may still be dealt.
+     */
+    private final byte[] live;
+
+    /**
+     * The number of board cards still to come.
+     */
+    private final int missing;
+
+    /**
+     * The number of hole cards still to be dealt, across every player.
+     */
+    private final int unknown;
+
+    Deal(long[] holes, long board, long live, int missing, int unknown) {
+      this.holes = holes;
+      this.board = board;
+      this.missing = missing;
+      this.unknown = unknown;
+      this.live = new byte[Long.bitCount(live)];
+      for (int i = 0; i < this.live.length; i++) {
+        this.live[i] = (byte) Long.numberOfTrailingZeros(live);
+        live &= live - 1;
+      }
+    }
+
+    /**
+     * Tallies the only run-out of a complete board.
+     */
+    Tally single() {
+      Tally tally = new Tally(holes.length);
+      tally.record(holes, board);
+      return tally;
+    }
+  }
+
+  /**
+   * Enumerates every board whose first new card is one of a range of live cards, splitting the
+   * range in half until it holds a single card.
+   */
+  private static final class EnumerationTask extends RecursiveTask<Tally> {
+
+    /**
+     * The version of the serialized form, which tasks inherit from {@link
+     * java.util.concurrent.ForkJoinTask} but never use.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The calculation.
+     */
+    private final Deal deal;
+
+    /**
+     * The first index into the live cards of the range (inclusive).
+     */
+    private final int from;
+
+    /**
+     * The last index into the live cards of the range (exclusive).
+     */
+    private final int to;
+
+    EnumerationTask(Deal deal, int from, int to) {
+      this.deal = deal;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (to - from == 1) {
+        Tally tally = new Tally(deal.holes.length);
+        enumerate(tally, from + 1, deal.missing - 1, deal.board | CardSet.bit(deal.live[from]));
+        return tally;
+      }
+      int middle = (from + to) >>> 1;
+      EnumerationTask left = new EnumerationTask(deal, from, middle);
+      left.fork();
+      Tally tally = new EnumerationTask(deal, middle, to).compute();
+      tally.merge(left.join());
+      return tally;
+    }
+
+    /**
+     * Adds every combination of the remaining board cards drawn from {@code start} onwards.
+     */
+    private void enumerate(Tally tally, int start, int remaining, long board) {
+      if (remaining == 0) {
+        tally.record(deal.holes, board);
+        return;
+      }
+      for (int i = start; i <= deal.live.length - remaining; i++) {
+        enumerate(tally, i + 1, remaining - 1, board | CardSet.bit(deal.live[i]));
+      }
+    }
+  }
+
+  /**
+   * Samples a number of random run-outs, splitting the work in half until it is small enough to run
+   * directly.
+   */
+  private static final class SampleTask extends RecursiveTask<Tally> {
+
+    /**
+     * The version of the serialized form, which tasks inherit from {@link
+     * java.util.concurrent.ForkJoinTask} but never use.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The calculation.
+     */
+    private final Deal deal;
+
+    /**
+     * The number of run-outs in this task.
+     */
+    private final long samples;
+
+    /**
+     * The generator owned by this task.
+     */
+    private final SplittableGenerator random;
+
+    SampleTask(Deal deal, long samples, SplittableGenerator random) {
+      this.deal = deal;
+      this.samples = samples;
+      this.random = random;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (samples <= LEAF_SAMPLES) {
+        return sample();
+      }
+      long half = samples / 2;
+      SampleTask left = new SampleTask(deal, half, random.split());
+      left.fork();
+      Tally tally = new SampleTask(deal, samples - half, random).compute();
+      tally.merge(left.join());
+      return tally;
+    }
+
+    /**
+     * Samples every run-out of this task on the current thread. Each one shuffles just enough of
+     * the live cards to deal the missing hole and board cards.
+     */
+    private Tally sample() {
+      Tally tally = new Tally(deal.holes.length);
+      byte[] live = deal.live.clone();
+      long[] holes = new long[deal.holes.length];
+      int needed = deal.unknown + deal.missing;
+      for (long s = 0; s < samples; s++) {
+        for (int i = 0; i < needed; i++) {
+          int j = random.nextInt(i, live.length);
+          byte swap = live[i];
+          live[i] = live[j];
+          live[j] = swap;
+        }
+        int next = 0;
+        for (int p = 0; p < holes.length; p++) {
+          holes[p] = deal.holes[p];
+          for (int k = Long.bitCount(holes[p]); k < HOLE_CARDS; k++) {
+            holes[p] |= CardSet.bit(live[next++]);
+          }
+        }
+        long board = deal.board;
+        while (next < needed) {
+          board |= CardSet.bit(live[next++]);
+        }
+        tally.record(holes, board);
+      }
+      return tally;
+    }
+  }
+
+  /**
+   * The running totals of a calculation, owned by a single task.
+   */
+  private static final class Tally {
+
+    /**
+     * The number of run-outs recorded.
+     */
+    private long trials;
+
+    /**
+     * The number of run-outs each player won outright.
+     */
+    private final long[] wins;
+
+    /**
+     * The number of run-outs each player split.
+     */
+    private final long[] ties;
+
+    /**
+     * The sum of each player's share of the pot.
+     */
+    private final double[] equity;
+
+    /**
+     * The sum of the squares of each player's share of the pot.
+     */
+    private final double[] squares;
+
+    /**
+     * The strength of each player's hand in the current run-out.
+     */
+    private final int[] strengths;
+
+    Tally(int players) {
+      wins = new long[players];
+      ties = new long[players];
+      equity = new double[players];
+      squares = new double[players];
+      strengths = new int[players];
+    }
+
+    /**
+     * Ranks every hand against a complete board and shares the pot between the best.
+     */
+    void record(long[] holes, long board) {
+      int best = -1;
+      int winners = 0;
+      for (int p = 0; p < holes.length; p++) {
+        int strength = PokerHandEvaluator.evaluate(holes[p] | board);
+        strengths[p] = strength;
+        if (strength > best) {
+          best = strength;
+          winners = 1;
+        } else if (strength == best) {
+          winners++;
+        }
+      }
+      double share = 1.0 / winners;
+      for (int p = 0; p < holes.length; p++) {
+        if (strengths[p] == best) {
+          equity[p] += share;
+          squares[p] += share * share;
+          if (winners == 1) {
+            wins[p]++;
+          } else {
+            ties[p]++;
+          }
+        }
+      }
+      trials++;
+    }
+
+    /**
+     * Adds another task's totals to this one.
+     */
+    void merge(Tally that) {
+      trials += that.trials;
+      for (int p = 0; p < wins.length; p++) {
+        wins[p] += that.wins[p];
+        ties[p] += that.ties[p];
+        equity[p] += that.equity[p];
+        squares[p] += that.squares[p];
+      }
+    }
+
+    EquityResult toResult(boolean exact) {
+      return new EquityResult(trials, exact, wins, ties, equity, squares);
+    }
+  }
+}
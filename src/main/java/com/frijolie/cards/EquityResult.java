@@ -0,0 +1,169 @@
+package com.frijolie.cards;
+
+/**
+ * The equity of each player in a calculation by an {@link EquityCalculator}. Instances are
+ * immutable.
+ *
+ * <p>A player's equity is their expected share of the pot: a win counts as one and a split between
+ * {@code n} players counts as {@code 1/n}. A sampled result also gives the margin of a 95%
+ * confidence interval, so the true equity lies within {@code getEquity(p) ± getMargin(p)} 19 times
+ * in 20. The margin of an exact result is zero.
+ *
+ * @see EquityCalculator
+ */
+public final class EquityResult {
+
+  /**
+   * The number of standard errors either side of the mean covered by a 95% confidence interval.
+   */
+  private static final double Z_95 = 1.959964;
+
+  /**
+   * The number of run-outs which were evaluated.
+   */
+  private final long trials;
+
+  /**
+   * {@code true} if every run-out was enumerated.
+   */
+  private final boolean exact;
+
+  /**
+   * The number of run-outs each player won outright.
+   */
+  private final long[] wins;
+
+  /**
+   * The number of run-outs each player split.
+   */
+  private final long[] ties;
+
+  /**
+   * The sum of each player's share of the pot.
+   */
+  private final double[] equity;
+
+  /**
+   * The sum of the squares of each player's share of the pot.
+   */
+  private final double[] squares;
+
+  /**
+   * Constructor. The arrays are not copied.
+   *
+   * @param trials  the number of run-outs which were evaluated
+   * @param exact   {@code true} if every run-out was enumerated
+   * @param wins    the number of run-outs each player won outright
+   * @param ties    the number of run-outs each player split
+   * @param equity  the sum of each player's share of the pot
+   * @param squares the sum of the squares of each player's share of the pot
+   */
+  EquityResult(long trials, boolean exact, long[] wins, long[] ties, double[] equity,
+      double[] squares) {
+    this.trials = trials;
+    this.exact = exact;
+    this.wins = wins;
+    this.ties = ties;
+    this.equity = equity;
+    this.squares = squares;
+  }
+
+  /**
+   * Returns the number of players.
+   *
+   * @return the number of hands which were compared
+   */
+  public int getPlayers() {
+    return wins.length;
+  }
+
+  /**
+   * Returns the number of run-outs which were evaluated.
+   *
+   * @return the number of run-outs
+   */
+  public long getTrials() {
+    return trials;
+  }
+
+  /**
+   * Returns {@code true} if every run-out was enumerated, rather than sampled.
+   *
+   * @return {@code true} if the result is exact
+   */
+  public boolean isExact() {
+    return exact;
+  }
+
+  /**
+   * Returns a player's expected share of the pot.
+   *
+   * @param player the player, in the order the hands were given
+   * @return the equity, from 0 to 1
+   */
+  public double getEquity(int player) {
+    return equity[player] / trials;
+  }
+
+  /**
+   * Returns the fraction of run-outs a player won outright.
+   *
+   * @param player the player, in the order the hands were given
+   * @return the win frequency, from 0 to 1
+   */
+  public double getWinFrequency(int player) {
+    return (double) wins[player] / trials;
+  }
+
+  /**
+   * Returns the fraction of run-outs in which a player split the pot.
+   *
+   * @param player the player, in the order the hands were given
+   * @return the tie frequency, from 0 to 1
+   */
+  public double getTieFrequency(int player) {
+    return (double) ties[player] / trials;
+  }
+
+  /**
+   * Returns the standard error of a player's equity. This is zero for an exact result.
+   *
+   * @param player the player, in the order the hands were given
+   * @return the standard error of the equity
+   */
+  public double getStandardError(int player) {
+    if (exact) {
+      return 0;
+    }
+    double mean = getEquity(player);
+    double variance = Math.max(0, squares[player] / trials - mean * mean);
+    return Math.sqrt(variance / trials);
+  }
+
+  /**
+   * Returns the half-width of the 95% confidence interval around a player's equity. This is zero
+   * for an exact result.
+   *
+   * @param player the player, in the order the hands were given
+   * @return the margin of error of the equity
+   */
+  public double getMargin(int player) {
+    return Z_95 * getStandardError(player);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("EquityResult{trials=").append(trials)
+        .append(", exact=").append(exact).append(", equity=[");
+    for (int p = 0; p < wins.length; p++) {
+      if (p > 0) {
+        builder.append(", ");
+      }
+      builder.append(String.format("%.4f", getEquity(p)));
+      if (!exact) {
+        builder.append(String.format(" ± %.4f", getMargin(p)));
+      }
+    }
+    return builder.append("]}").toString();
+  }
+}
@@ -0,0 +1,64 @@
+package com.frijolie.cards;
+
+/**
+ * An enumeration of the categories of poker hand, as ranked by the {@link PokerHandEvaluator}.
+ *
+ * <p>Declaration order of the constant values is intentional and important. The ordinal values are
+ * used for comparison: a hand in a later category beats every hand in an earlier one.
+ *
+ * @see PokerHandEvaluator
+ */
+public enum HandCategory {
+  HIGH_CARD("High Card"),
+  ONE_PAIR("One Pair"),
+  TWO_PAIR("Two Pair"),
+  THREE_OF_A_KIND("Three of a Kind"),
+  STRAIGHT("Straight"),
+  FLUSH("Flush"),
+  FULL_HOUSE("Full House"),
+  FOUR_OF_A_KIND("Four of a Kind"),
+  STRAIGHT_FLUSH("Straight Flush");
+
+  /**
+   * Cached copy of {@link #values()}, so looking up a category does not clone the array.
+   */
+  private static final HandCategory[] VALUES = values();
+
+  /**
+   * {@code HandCategory} in the form of words. For example, "Full House"
+   */
+  private final String name;
+
+  /**
+   * Constructor.
+   *
+   * @param name the category as words
+   */
+  HandCategory(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Returns the category of a hand strength returned by the {@link PokerHandEvaluator}.
+   *
+   * @param strength the strength of a hand
+   * @return the category of the hand
+   */
+  public static HandCategory of(int strength) {
+    return VALUES[strength >>> PokerHandEvaluator.CATEGORY_SHIFT];
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  /**
+   * Returns the {@code HandCategory} as words. For example, "Two Pair"
+   *
+   * @return the category as words
+   */
+  public String getName() {
+    return name;
+  }
+}
@@ -0,0 +1,263 @@
+package com.frijolie.cards;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Sorts and groups hands of cards with counting sorts over the small, fixed domains of {@link
+ * Rank}, {@link Suit} and {@link CardColor}. Each operation makes two passes over the hand, so it
+ * takes linear time and never compares two cards.
+ *
+ * <p>Results are written into arrays supplied by the caller, and the counts a sort needs are kept
+ * in the sorter, so no operation allocates. Keep one sorter per thread and reuse it for every hand.
+ * A {@code HandSorter} is not thread-safe. Every sort is stable, and hands may hold the same card
+ * more than once, as hands dealt from a shoe can.
+ *
+ * <p>Operations take the hand as an array and the number of cards at its start, so a hand can be
+ * sorted straight from the buffer it was dealt into by {@link Deck#draw(Card[], int)}.
+ *
+ * @see Card#compareTo(Card)
+ */
+public class HandSorter {
+
+  /**
+   * The highest value of any {@link Rank}.
+   */
+  private static final int MAX_VALUE = Rank.ACE.getValue();
+
+  /**
+   * The number of {@link CardColor}s.
+   */
+  private static final int COLORS = CardColor.values().length;
+
+  /**
+   * The position of each card in {@link Card#compareTo(Card)} order, by rank and then suit,
+   * indexed by {@link IntCard} code.
+   */
+  private static final byte[] BY_RANK = new byte[IntCard.COUNT];
+
+  /**
+   * The value of each card, indexed by {@link IntCard} code.
+   */
+  private static final byte[] BY_VALUE = new byte[IntCard.COUNT];
+
+  /**
+   * The {@link Suit} ordinal of each card, indexed by {@link IntCard} code.
+   */
+  private static final byte[] BY_SUIT = new byte[IntCard.COUNT];
+
+  /**
+   * The {@link CardColor} ordinal of each card, indexed by {@link IntCard} code.
+   */
+  private static final byte[] BY_COLOR = new byte[IntCard.COUNT];
+
+  /**
+   * The {@link IntCard} code of each card, indexed by {@link IntCard} code.
+   */
+  private static final byte[] BY_CODE = new byte[IntCard.COUNT];
+
+  static {
+    for (int code = 0; code < IntCard.COUNT; code++) {
+      BY_RANK[code] = (byte) (IntCard.rankOrdinal(code) * Suit.COUNT + IntCard.suitOrdinal(code));
+      BY_VALUE[code] = (byte) IntCard.value(code);
+      BY_SUIT[code] = (byte) IntCard.suitOrdinal(code);
+      BY_COLOR[code] = (byte) IntCard.suit(code).getColor().ordinal();
+      BY_CODE[code] = (byte) code;
+    }
+  }
+
+  /**
+   * The number of cards with each key, turned into the index of the first card with each key.
+   */
+  private final int[] counts = new int[IntCard.COUNT + 1];
+
+  /**
+   * Default no-arg constructor. Creates a sorter, which can be reused for any number of hands.
+   */
+  public HandSorter() {
+  }
+
+  /**
+   * Sorts a hand by {@link Rank} and then by {@link Suit}, the order of {@link
+   * Card#compareTo(Card)}.
+   *
+   * @param cards the hand
+   * @param n     the number of cards at the start of {@code cards} to sort
+   * @param out   the array to write the sorted cards into, which must not be {@code cards}
+   * @throws IllegalArgumentException if {@code n} is out of range for either array, or the arrays
+   *                                  are the same
+   * @throws NullPointerException if either array or any of the cards is {@code null}
+   */
+  public void sortByRank(Card[] cards, int n, Card[] out) {
+    sort(cards, n, out, BY_RANK, IntCard.COUNT, null);
+  }
+
+  /**
+   * Sorts a hand by {@link Suit} and then by {@link Rank}, the order of {@link IntCard} codes.
+   *
+   * @param cards the hand
+   * @param n     the number of cards at the start of {@code cards} to sort
+   * @param out   the array to write the sorted cards into, which must not be {@code cards}
+   * @throws IllegalArgumentException if {@code n} is out of range for either array, or the arrays
+   *                                  are the same
+   * @throws NullPointerException if either array or any of the cards is {@code null}
+   */
+  public void sortBySuit(Card[] cards, int n, Card[] out) {
+    sort(cards, n, out, BY_CODE, IntCard.COUNT, null);
+  }
+
+  /**
+   * Sorts a hand by value, as returned by {@link Card#getValue()}. Cards of equal value, such as a
+   * Ten and a King, keep the order they had in the hand.
+   *
+   * @param cards the hand
+   * @param n     the number of cards at the start of {@code cards} to sort
+   * @param out   the array to write the sorted cards into, which must not be {@code cards}
+   * @throws IllegalArgumentException if {@code n} is out of range for either array, or the arrays
+   *                                  are the same
+   * @throws NullPointerException if either array or any of the cards is {@code null}
+   */
+  public void sortByValue(Card[] cards, int n, Card[] out) {
+    sort(cards, n, out, BY_VALUE, MAX_VALUE + 1, null);
+  }
+
+  /**
+   * Groups a hand by {@link Suit}, in suit order. Cards of the same suit keep the order they had in
+   * the hand. The cards of the suit with ordinal {@code s} are written from {@code out[starts[s]]}
+   * up to {@code out[starts[s + 1]]} (exclusive).
+   *
+   * @param cards  the hand
+   * @param n      the number of cards at the start of {@code cards} to group
+   * @param out    the array to write the grouped cards into, which must not be {@code cards}
+   * @param starts an array of at least {@code Suit.COUNT + 1} elements, to receive the index of the
+   *               first card of each suit followed by {@code n}
+   * @throws IllegalArgumentException if {@code n} is out of range for either array, the arrays are
+   *                                  the same, or {@code starts} is too short
+   * @throws NullPointerException if any array or any of the cards is {@code null}
+   */
+  public void groupBySuit(Card[] cards, int n, Card[] out, int[] starts) {
+    sort(cards, n, out, BY_SUIT, Suit.COUNT, starts);
+  }
+
+  /**
+   * Groups a hand by {@link CardColor}, in color order. Cards of the same color keep the order they
+   * had in the hand. The cards of the color with ordinal {@code c} are written from {@code
+   * out[starts[c]]} up to {@code out[starts[c + 1]]} (exclusive).
+   *
+   * @param cards  the hand
+   * @param n      the number of cards at the start of {@code cards} to group
+   * @param out    the array to write the grouped cards into, which must not be {@code cards}
+   * @param starts an array of at least 3 elements, to receive the index of the first card of each
+   *               color followed by {@code n}
+   * @throws IllegalArgumentException if {@code n} is out of range for either array, the arrays are
+   *                                  the same, or {@code starts} is too short
+   * @throws NullPointerException if any array or any of the cards is {@code null}
+   */
+  public void groupByColor(Card[] cards, int n, Card[] out, int[] starts) {
+    sort(cards, n, out, BY_COLOR, COLORS, starts);
+  }
+
+  /**
+   * Counts the cards of each {@link Rank} in a hand.
+   *
+   * @param cards     the hand
+   * @param n         the number of cards at the start of {@code cards} to count
+   * @param histogram an array of at least {@code Rank.COUNT} elements, to receive the number of
+   *                  cards with each rank ordinal
+   * @throws IllegalArgumentException if {@code n} is out of range or {@code histogram} is too short
+   * @throws NullPointerException if either array or any of the cards is {@code null}
+   */
+  public static void rankHistogram(Card[] cards, int n, int[] histogram) {
+    histogram(cards, n, histogram, Rank.COUNT);
+    for (int i = 0; i < n; i++) {
+      histogram[IntCard.rankOrdinal(IntCard.encode(cards[i]))]++;
+    }
+  }
+
+  /**
+   * Counts the cards of each {@link Suit} in a hand.
+   *
+   * @param cards     the hand
+   * @param n         the number of cards at the start of {@code cards} to count
+   * @param histogram an array of at least {@code Suit.COUNT} elements, to receive the number of
+   *                  cards with each suit ordinal
+   * @throws IllegalArgumentException if {@code n} is out of range or {@code histogram} is too short
+   * @throws NullPointerException if either array or any of the cards is {@code null}
+   */
+  public static void suitHistogram(Card[] cards, int n, int[] histogram) {
+    histogram(cards, n, histogram, Suit.COUNT);
+    for (int i = 0; i < n; i++) {
+      histogram[BY_SUIT[IntCard.encode(cards[i])]]++;
+    }
+  }
+
+  /**
+   * Stable counting sort of a hand by a key looked up from each card's code.
+   *
+   * @param cards  the hand
+   * @param n      the number of cards to sort
+   * @param out    the array to write the sorted cards into
+   * @param keyOf  the key of each card, indexed by {@link IntCard} code
+   * @param keys   the number of distinct keys
+   * @param starts an array to receive the index of the first card of each key, or {@code null}
+   */
+  private void sort(Card[] cards, int n, Card[] out, byte[] keyOf, int keys, int[] starts) {
+    checkHand(cards, n);
+    Objects.requireNonNull(out, "You must pass a non null array to write into.");
+    if (out == cards || n > out.length) {
+      throw new IllegalArgumentException("The output must be a different array of at least " + n
+          + " cards.");
+    }
+    if (starts != null && starts.length <= keys) {
+      throw new IllegalArgumentException("The array of starts must hold at least " + (keys + 1)
+          + " elements. Instead it holds: " + starts.length);
+    }
+    int[] counts = this.counts;
+    Arrays.fill(counts, 0, keys + 1, 0);
+    for (int i = 0; i < n; i++) {
+      counts[keyOf[IntCard.encode(cards[i])] + 1]++;
+    }
+    for (int key = 0; key < keys; key++) {
+      counts[key + 1] += counts[key];
+    }
+    if (starts != null) {
+      System.arraycopy(counts, 0, starts, 0, keys + 1);
+    }
+    for (int i = 0; i < n; i++) {
+      Card card = cards[i];
+      out[counts[keyOf[IntCard.encode(card)]]++] = card;
+    }
+  }
+
+  /**
+   * Checks a hand and clears the histogram it will be counted into.
+   *
+   * @param cards     the hand
+   * @param n         the number of cards to count
+   * @param histogram the array to receive the counts
+   * @param keys      the number of distinct keys
+   */
+  private static void histogram(Card[] cards, int n, int[] histogram, int keys) {
+    checkHand(cards, n);
+    Objects.requireNonNull(histogram, "You must pass a non null histogram.");
+    if (histogram.length < keys) {
+      throw new IllegalArgumentException("The histogram must hold at least " + keys
+          + " elements. Instead it holds: " + histogram.length);
+    }
+    Arrays.fill(histogram, 0, keys, 0);
+  }
+
+  /**
+   * Checks that the first {@code n} elements of an array can be read as a hand.
+   *
+   * @param cards the hand
+   * @param n     the number of cards in the hand
+   */
+  private static void checkHand(Card[] cards, int n) {
+    Objects.requireNonNull(cards, "You must pass a non null array of cards.");
+    if (n < 0 || n > cards.length) {
+      throw new IllegalArgumentException("Cannot read " + n + " cards from an array of "
+          + cards.length);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package com.frijolie.cards;
+
+import java.util.ServiceLoader;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The hooks through which a {@link Deck} reports to the installed {@link DeckMetrics} and to JFR.
+ *
+ * <p>{@link #ENABLED} is a constant, so when no metrics are installed the JIT compiler folds every
+ * check away. The JFR events are only committed while a recording has enabled them.
+ */
+final class Instrumentation {
+
+  /**
+   * The installed metrics, or {@link DeckMetrics#NOOP}.
+   */
+  static final DeckMetrics METRICS = ServiceLoader.load(DeckMetrics.class).findFirst()
+      .orElse(DeckMetrics.NOOP);
+
+  /**
+   * {@code true} if metrics other than {@link DeckMetrics#NOOP} are installed.
+   */
+  static final boolean ENABLED = METRICS != DeckMetrics.NOOP;
+
+  /**
+   * This class only contains static methods.
+   */
+  private Instrumentation() {
+  }
+
+  /**
+   * Returns the time an operation started, for metrics which measure it.
+   *
+   * @return the current {@link System#nanoTime()}, or 0 if no metrics are installed
+   */
+  static long start() {
+    return ENABLED ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Reports that a deck has been built.
+   *
+   * @param event the JFR event, begun when building started
+   * @param cards the number of cards in the deck
+   * @param start the value returned by {@link #start()} when building started
+   */
+  static void deckBuilt(DeckBuildEvent event, int cards, long start) {
+    if (ENABLED) {
+      METRICS.deckBuilt(cards, System.nanoTime() - start);
+    }
+    if (event.shouldCommit()) {
+      event.cards = cards;
+      event.commit();
+    }
+  }
+
+  /**
+   * Reports that the undealt cards of a deck have been shuffled.
+   *
+   * @param event the JFR event, begun when shuffling started
+   * @param cards the number of cards shuffled, or 0 for a lazy deck
+   * @param start the value returned by {@link #start()} when shuffling started
+   */
+  static void shuffled(ShuffleEvent event, int cards, long start) {
+    if (ENABLED) {
+      METRICS.shuffled(cards, System.nanoTime() - start);
+    }
+    if (event.shouldCommit()) {
+      event.cards = cards;
+      event.commit();
+    }
+  }
+
+  /**
+   * Reports that cards have been dealt.
+   *
+   * @param cards the number of cards dealt
+   */
+  static void cardsDealt(int cards) {
+    if (ENABLED) {
+      METRICS.cardsDealt(cards);
+    }
+  }
+
+  /**
+   * A JFR event recorded when a deck is built.
+   */
+  @Name("com.frijolie.cards.DeckBuild")
+  @Label("Deck Build")
+  @Category("Cards")
+  @Description("A deck was built and, if requested, shuffled")
+  static final class DeckBuildEvent extends Event {
+
+    /**
+     * The number of cards in the deck.
+     */
+    @Label("Cards")
+    int cards;
+  }
+
+  /**
+   * A JFR event recorded when a deck is shuffled.
+   */
+  @Name("com.frijolie.cards.Shuffle")
+  @Label("Shuffle")
+  @Category("Cards")
+  @Description("The undealt cards of a deck were shuffled")
+  static final class ShuffleEvent extends Event {
+
+    /**
+     * The number of cards shuffled.
+     */
+    @Label("Cards")
+    int cards;
+  }
+}
@@ -0,0 +1,116 @@
+package com.frijolie.cards;
+
+import java.util.Objects;
+
+/**
+ * Static helpers for the primitive encoding of a {@link Card}. Each of the 52 distinct cards is
+ * represented by an {@code int} from 0 to 51, derived from the {@link Suit} and {@link Rank}
+ * ordinals: {@code suit.ordinal() * 13 + rank.ordinal()}.
+ *
+ * <p>The encoding is the same as {@link PlayingCard#getOrdinal()}, so converting between the two
+ * forms is a single array lookup. Codes fit in a {@code byte}, which is how {@link IntDeck} stores
+ * them.
+ *
+ * @see IntDeck
+ * @see PlayingCard#of(int)
+ */
+public final class IntCard {
+
+  /**
+   * The number of distinct card codes.
+   */
+  public static final int COUNT = PlayingCard.COUNT;
+
+  /**
+   * This class only contains static methods.
+   */
+  private IntCard() {
+  }
+
+  /**
+   * Returns the code of the card with the given {@link Rank} and {@link Suit}.
+   *
+   * @param rank the cards rank
+   * @param suit the cards suit
+   * @return the code, from 0 to 51
+   */
+  public static int encode(final Rank rank, final Suit suit) {
+    return suit.ordinal() * Rank.COUNT + rank.ordinal();
+  }
+
+  /**
+   * Returns the code of the given {@link Card}.
+   *
+   * @param card the card to encode
+   * @return the code, from 0 to 51
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public static int encode(final Card card) {
+    Objects.requireNonNull(card, "You must pass a non null card to encode.");
+    if (card instanceof PlayingCard) {
+      return ((PlayingCard) card).getOrdinal();
+    }
+    return encode(card.getRank(), card.getSuit());
+  }
+
+  /**
+   * Returns the canonical {@link PlayingCard} for the given code.
+   *
+   * @param code the card code, from 0 to 51
+   * @return the shared card instance
+   */
+  public static PlayingCard decode(final int code) {
+    return PlayingCard.of(code);
+  }
+
+  /**
+   * Returns the {@link Rank} of the given code.
+   *
+   * @param code the card code, from 0 to 51
+   * @return the rank of the card
+   */
+  public static Rank rank(final int code) {
+    return Rank.fromOrdinal(rankOrdinal(code));
+  }
+
+  /**
+   * Returns the {@link Suit} of the given code.
+   *
+   * @param code the card code, from 0 to 51
+   * @return the suit of the card
+   */
+  public static Suit suit(final int code) {
+    return Suit.fromOrdinal(suitOrdinal(code));
+  }
+
+  /**
+   * Returns the {@link Rank} ordinal of the given code, without resolving the enum constant.
+   *
+   * @param code the card code, from 0 to 51
+   * @return the rank ordinal, from 0 (TWO) to 12 (ACE)
+   */
+  public static int rankOrdinal(final int code) {
+    return code % Rank.COUNT;
+  }
+
+  /**
+   * Returns the {@link Suit} ordinal of the given code, without resolving the enum constant.
+   *
+   * @param code the card code, from 0 to 51
+   * @return the suit ordinal, from 0 (CLUBS) to 3 (HEARTS)
+   */
+  public static int suitOrdinal(final int code) {
+    return code / Rank.COUNT;
+  }
+
+  /**
+   * Returns the value of the given code. This is linked to the cards {@link Rank}.
+   *
+   * @param code the card code, from 0 to 51
+   * @return the card value as an {@code int}
+   * @see Rank#getValue()
+   */
+  public static int value(final int code) {
+    return rank(code).getValue();
+  }
+}
@@ -0,0 +1,184 @@
+package com.frijolie.cards;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A primitive counterpart to {@link Deck}. Cards are stored as {@link IntCard} codes in a flat
+ * {@code byte} array, and dealt by advancing a cursor, so drawing a card touches no objects at all.
+ *
+ * <p>This is intended for simulations which deal millions of hands. Cards can be converted back to
+ * the {@link Card} interface with {@link #drawCard()}, {@link IntCard#decode(int)} or {@link
+ * #toCards()}.
+ *
+ * @see IntCard
+ * @see Deck
+ */
+public class IntDeck {
+
+  /**
+   * The codes of a single unshuffled deck, in ordinal order.
+   */
+  private static final byte[] SINGLE_DECK = new byte[IntCard.COUNT];
+
+  static {
+    for (int i = 0; i < SINGLE_DECK.length; i++) {
+      SINGLE_DECK[i] = (byte) i;
+    }
+  }
+
+  /**
+   * An array to contain the codes of all of the cards in the deck.
+   */
+  private final byte[] cards;
+
+  /**
+   * The index of the next card to be dealt.
+   */
+  private int cursor;
+
+  /**
+   * Default no-arg constructor. Creates a single deck of unshuffled cards.
+   */
+  public IntDeck() {
+    this(1, false);
+  }
+
+  /**
+   * Overloaded constructor. Allows for multiple decks and the ability to have it shuffled after it
+   * has been created.
+   *
+   * @param numOfDecks the number of decks to create
+   * @param shuffled   {@code true} if you wish to shuffle the deck afterwards
+   */
+  public IntDeck(int numOfDecks, boolean shuffled) {
+    cards = new byte[numOfDecks * IntCard.COUNT];
+    for (int i = 0; i < numOfDecks; i++) {
+      System.arraycopy(SINGLE_DECK, 0, cards, i * IntCard.COUNT, IntCard.COUNT);
+    }
+    if (shuffled) {
+      shuffle();
+    }
+  }
+
+  /**
+   * Creates a deck holding the given cards, in iteration order. The first card will be dealt
+   * first.
+   *
+   * @param cards the cards to hold
+   * @throws NullPointerException if the argument or any card is {@code null}
+   */
+  public IntDeck(Collection<? extends Card> cards) {
+    Objects.requireNonNull(cards, "You must pass a non null collection of cards.");
+    this.cards = new byte[cards.size()];
+    int i = 0;
+    for (Card card : cards) {
+      this.cards[i++] = (byte) IntCard.encode(card);
+    }
+  }
+
+  /**
+   * Creates a deck which takes ownership of an array of codes. The first code will be dealt first.
+   *
+   * @param cards the codes of the cards, which are not copied
+   */
+  IntDeck(byte[] cards) {
+    this.cards = cards;
+  }
+
+  /**
+   * Removes and returns the code of the next card.
+   *
+   * @return the code of the card, from 0 to 51
+   * @throws NoSuchElementException if there are no cards remaining
+   */
+  public int draw() {
+    if (cursor == cards.length) {
+      throw new NoSuchElementException("There are no cards remaining in the deck.");
+    }
+    return cards[cursor++];
+  }
+
+  /**
+   * Removes and returns the next card as a {@link Card}.
+   *
+   * @return the canonical instance of the next card
+   * @throws NoSuchElementException if there are no cards remaining
+   */
+  public Card drawCard() {
+    return IntCard.decode(draw());
+  }
+
+  /**
+   * Returns the code of the next card, without removing it.
+   *
+   * @return the code of the card, from 0 to 51
+   * @throws NoSuchElementException if there are no cards remaining
+   */
+  public int peek() {
+    if (cursor == cards.length) {
+      throw new NoSuchElementException("There are no cards remaining in the deck.");
+    }
+    return cards[cursor];
+  }
+
+  /**
+   * Returns the number of cards which have not been dealt.
+   *
+   * @return the number of remaining cards
+   */
+  public int remaining() {
+    return cards.length - cursor;
+  }
+
+  /**
+   * Returns the number of cards in the deck, including those which have been dealt.
+   *
+   * @return the total number of cards
+   */
+  public int size() {
+    return cards.length;
+  }
+
+  /**
+   * Returns every dealt card to the deck, in the order they were dealt. The deck is not shuffled.
+   */
+  public void reset() {
+    cursor = 0;
+  }
+
+  /**
+   * Shuffles the cards which have not been dealt, using {@link ThreadLocalRandom}.
+   */
+  public void shuffle() {
+    shuffle(ThreadLocalRandom.current());
+  }
+
+  /**
+   * Shuffles the cards which have not been dealt, using the given source of randomness.
+   *
+   * @param random the source of randomness
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public void shuffle(RandomGenerator random) {
+    Shuffler.shuffle(cards, cursor, cards.length, Deck.requireRandom(random));
+  }
+
+  /**
+   * Returns a List of the cards which have not been dealt, in the order they will be dealt.
+   *
+   * @return List that contains the remaining cards
+   */
+  public List<Card> toCards() {
+    List<Card> list = new ArrayList<>(remaining());
+    for (int i = cursor; i < cards.length; i++) {
+      list.add(IntCard.decode(cards[i]));
+    }
+    return list;
+  }
+}
@@ -6,11 +6,35 @@ import java.util.Objects;
  * A concrete class used to represent a single {@link Card} in a {@link Deck} of cards. Each {@code
  * PlayingCard} has a {@link Rank} and {@link Suit}.
  *
+ * <p>There are only 52 distinct playing cards, so a canonical instance of each is created once and
+ * shared. Use {@link #of(Rank, Suit)} or {@link #of(int)} to obtain one rather than allocating a
+ * new card. Canonical cards can be compared by identity.
+ *
  * @see Rank
  * @see Suit
  */
 public class PlayingCard implements Card {
 
+  /**
+   * The number of distinct playing cards: one for every {@link Rank} within every {@link Suit}.
+   */
+  public static final int COUNT = Suit.COUNT * Rank.COUNT;
+
+  /**
+   * The canonical cards, indexed by ordinal. Ordered by suit and then by rank, which is also the
+   * order of an unshuffled {@link Deck}.
+   */
+  private static final PlayingCard[] CARDS = new PlayingCard[COUNT];
+
+  static {
+    for (Suit suit : Suit.values()) {
+      for (Rank rank : Rank.values()) {
+        PlayingCard card = new PlayingCard(rank, suit);
+        CARDS[card.ordinal] = card;
+      }
+    }
+  }
+
   /**
    * The {@link Rank}. Values are ACE, TWO, THREE ... TEN, JACK, QUEEN, KING.
    */
@@ -21,15 +45,75 @@ public class PlayingCard implements Card {
    */
   private final Suit suit;
 
+  /**
+   * The position of this card within the canonical table. Also used as the hash code.
+   */
+  private final int ordinal;
+
+  /**
+   * The rank letter followed by the suit symbol, built once so {@link #toString()} never
+   * allocates.
+   */
+  private final String text;
+
   /**
    * Constructor. Must provide a {@link Rank} and {@link Suit}
    *
+   * <p>Prefer {@link #of(Rank, Suit)}, which returns the shared canonical instance.
+   *
    * @param rank the cards rank
    * @param suit the cards suit
    */
   public PlayingCard(final Rank rank, final Suit suit) {
     this.rank = rank;
     this.suit = suit;
+    this.ordinal = ordinal(rank, suit);
+    this.text = new String(new char[] {rank.getLetter(), suit.getSymbol()});
+  }
+
+  /**
+   * Returns the canonical {@code PlayingCard} for the given {@link Rank} and {@link Suit}.
+   *
+   * @param rank the cards rank
+   * @param suit the cards suit
+   * @return the shared instance of that card
+   * @throws NullPointerException if either argument is {@code null}
+   */
+  public static PlayingCard of(final Rank rank, final Suit suit) {
+    return CARDS[ordinal(rank, suit)];
+  }
+
+  /**
+   * Returns the canonical {@code PlayingCard} at the given ordinal.
+   *
+   * @param ordinal a value from 0 (inclusive) to {@link #COUNT} (exclusive)
+   * @return the shared instance of that card
+   * @throws ArrayIndexOutOfBoundsException if the ordinal is out of range
+   * @see #getOrdinal()
+   */
+  public static PlayingCard of(final int ordinal) {
+    return CARDS[ordinal];
+  }
+
+  /**
+   * Copies every canonical card, in ordinal order, into {@code dest} starting at {@code pos}.
+   *
+   * @param dest the array to fill
+   * @param pos  the first index to write
+   */
+  static void copyTo(final Card[] dest, final int pos) {
+    System.arraycopy(CARDS, 0, dest, pos, COUNT);
+  }
+
+  /**
+   * Computes the ordinal shared by every card with the given {@link Rank} and {@link Suit}.
+   *
+   * @param rank the cards rank
+   * @param suit the cards suit
+   * @return the suit ordinal multiplied by 13, plus the rank ordinal
+   */
+  private static int ordinal(final Rank rank, final Suit suit) {
+    return suit.ordinal() * Rank.COUNT + rank.ordinal();
   }
 
   @Override
@@ -65,19 +149,28 @@ public class PlayingCard implements Card {
       return false;
     }
 
-    Card that = (Card) o;
-
-    return this.compareTo(that) == 0;
+    return ordinal == ((PlayingCard) o).ordinal;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(getRank(), getSuit());
+    return ordinal;
   }
 
   @Override
   public String toString() {
-    return String.format("%s%s", getRankLetter(), suit.getSymbol());
+    return text;
+  }
+
+  /**
+   * Returns the position of this card in the canonical table, from 0 to 51. Cards are ordered by
+   * {@link Suit} and then by {@link Rank}, matching an unshuffled {@link Deck}.
+   *
+   * @return the ordinal of this card
+   * @see #of(int)
+   */
+  public int getOrdinal() {
+    return ordinal;
   }
 
   /**
@@ -0,0 +1,259 @@
+package com.frijolie.cards;
+
+import java.util.Objects;
+
+/**
+ * Ranks poker hands of five to seven cards, choosing the best five. The result is an {@code int}
+ * strength: a stronger hand always has a greater strength, and hands of equal strength split the
+ * pot. {@link HandCategory#of(int)} recovers the category.
+ *
+ * <p>The evaluator works on the {@link CardSet} bit layout, where the 13 cards of each suit occupy
+ * consecutive bits. It extracts one 13-bit rank mask per suit and classifies the hand with a few
+ * bitwise operations on them: their union gives the distinct ranks, and their exclusive or and
+ * pairwise intersections give the ranks held two, three and four times. Straights and the five
+ * highest ranks of a mask are read from tables precomputed for all 8192 masks, so evaluating a hand
+ * neither branches on individual cards nor allocates.
+ *
+ * <p>A strength holds the {@link HandCategory} ordinal above {@link #CATEGORY_SHIFT}, and below it
+ * five 4-bit {@link Rank} ordinals, most significant first: the ranks which decide the category
+ * (such as the trips then the pair of a full house) followed by the kickers.
+ *
+ * @see HandCategory
+ * @see CardSet
+ */
+public final class PokerHandEvaluator {
+
+  /**
+   * The bit position of the {@link HandCategory} ordinal within a strength.
+   */
+  public static final int CATEGORY_SHIFT = 20;
+
+  /**
+   * The number of possible 13-bit rank masks.
+   */
+  private static final int MASKS = 1 << Rank.COUNT;
+
+  /**
+   * A mask of the 13 bits used by a single suit.
+   */
+  private static final int SUIT_BITS = MASKS - 1;
+
+  /**
+   * The ranks of the five highest bits of every mask, packed as 4-bit rank ordinals from bit 16
+   * down to bit 0. Masks with fewer than five bits leave the low nibbles zero.
+   */
+  private static final int[] TOP_FIVE = new int[MASKS];
+
+  /**
+   * The rank ordinal of the highest card of the best straight in every mask, or -1 if it holds
+   * none. The wheel (Ace to Five) counts as Five high.
+   */
+  private static final byte[] STRAIGHT = new byte[MASKS];
+
+  static {
+    int wheel = 1 << Rank.ACE.ordinal() | 0b1111;
+    for (int mask = 0; mask < MASKS; mask++) {
+      int packed = 0;
+      int remaining = mask;
+      for (int shift = 16; shift >= 0 && remaining != 0; shift -= 4) {
+        int top = topRank(remaining);
+        packed |= top << shift;
+        remaining ^= 1 << top;
+      }
+      TOP_FIVE[mask] = packed;
+
+      STRAIGHT[mask] = -1;
+      for (int high = Rank.ACE.ordinal(); high >= Rank.SIX.ordinal(); high--) {
+        int run = 0b11111 << (high - 4);
+        if ((mask & run) == run) {
+          STRAIGHT[mask] = (byte) high;
+          break;
+        }
+      }
+      if (STRAIGHT[mask] < 0 && (mask & wheel) == wheel) {
+        STRAIGHT[mask] = (byte) Rank.FIVE.ordinal();
+      }
+    }
+  }
+
+  /**
+   * This class only contains static methods.
+   */
+  private PokerHandEvaluator() {
+  }
+
+  /**
+   * Returns the strength of the best five-card hand among the given cards.
+   *
+   * @param cards a mask of five to seven cards, in the {@link CardSet} bit layout
+   * @return the strength of the hand
+   * @throws IllegalArgumentException if the mask does not hold five to seven cards
+   */
+  public static int evaluate(long cards) {
+    int total = Long.bitCount(cards);
+    if (total < 5 || total > 7 || (cards & ~CardSet.ALL) != 0) {
+      throw new IllegalArgumentException("A hand must hold 5 to 7 cards. Instead it has: " + total);
+    }
+    int clubs = (int) cards & SUIT_BITS;
+    int diamonds = (int) (cards >>> 13) & SUIT_BITS;
+    int spades = (int) (cards >>> 26) & SUIT_BITS;
+    int hearts = (int) (cards >>> 39) & SUIT_BITS;
+    int ranks = clubs | diamonds | spades | hearts;
+    int distinct = Integer.bitCount(ranks);
+
+    if (distinct >= 5) {
+      int flush = flush(clubs, diamonds, spades, hearts);
+      if (flush != 0) {
+        int high = STRAIGHT[flush];
+        return high >= 0
+            ? strength(HandCategory.STRAIGHT_FLUSH, high << 16)
+            : strength(HandCategory.FLUSH, TOP_FIVE[flush]);
+      }
+      int high = STRAIGHT[ranks];
+      if (high >= 0) {
+        return strength(HandCategory.STRAIGHT, high << 16);
+      }
+    }
+
+    int duplicates = total - distinct;
+    int odd = clubs ^ diamonds ^ spades ^ hearts;
+    int pairs = ranks ^ odd;
+    switch (duplicates) {
+      case 0:
+        return strength(HandCategory.HIGH_CARD, TOP_FIVE[ranks]);
+      case 1:
+        return strength(HandCategory.ONE_PAIR,
+            topRank(pairs) << 16 | (TOP_FIVE[ranks ^ pairs] >>> 4) & 0xFFF0);
+      case 2:
+        if (pairs != 0) {
+          return twoPair(ranks, pairs);
+        }
+        int trips = trips(clubs, diamonds, spades, hearts);
+        return strength(HandCategory.THREE_OF_A_KIND,
+            topRank(trips) << 16 | (TOP_FIVE[ranks ^ trips] >>> 4) & 0xFF00);
+      default:
+        int quads = clubs & diamonds & spades & hearts;
+        if (quads != 0) {
+          int quad = topRank(quads);
+          return strength(HandCategory.FOUR_OF_A_KIND,
+              quad << 16 | topRank(ranks ^ (1 << quad)) << 12);
+        }
+        if (Integer.bitCount(pairs) == duplicates) {
+          return twoPair(ranks, pairs);
+        }
+        int allTrips = trips(clubs, diamonds, spades, hearts);
+        int trip = topRank(allTrips);
+        return strength(HandCategory.FULL_HOUSE,
+            trip << 16 | topRank((pairs | allTrips) ^ (1 << trip)) << 12);
+    }
+  }
+
+  /**
+   * Returns the strength of the best five-card hand among the given cards.
+   *
+   * @param cards a set of five to seven cards
+   * @return the strength of the hand
+   * @throws IllegalArgumentException if the set does not hold five to seven cards
+   */
+  public static int evaluate(CardSet cards) {
+    return evaluate(cards.toLong());
+  }
+
+  /**
+   * Returns the strength of the best five-card hand among the given cards.
+   *
+   * @param cards five to seven distinct cards
+   * @return the strength of the hand
+   * @throws IllegalArgumentException if there are not five to seven distinct cards
+   * @throws NullPointerException if the array or any card is {@code null}
+   */
+  public static int evaluate(Card... cards) {
+    Objects.requireNonNull(cards, "You must pass a non null array of cards.");
+    long mask = 0;
+    for (Card card : cards) {
+      mask |= CardSet.bit(IntCard.encode(card));
+    }
+    return evaluateDistinct(mask, cards.length);
+  }
+
+  /**
+   * Returns the strength of the best five-card hand among the given card codes.
+   *
+   * @param codes five to seven distinct {@link IntCard} codes
+   * @return the strength of the hand
+   * @throws IllegalArgumentException if there are not five to seven distinct codes, or a
+   *                                  code is not between 0 and 51
+   */
+  public static int evaluate(int... codes) {
+    long mask = 0;
+    for (int code : codes) {
+      if (code < 0 || code >= IntCard.COUNT) {
+        throw new IllegalArgumentException("Not a card code: " + code);
+      }
+      mask |= CardSet.bit(code);
+    }
+    return evaluateDistinct(mask, codes.length);
+  }
+
+  /**
+   * Evaluates a mask built from an array, checking the array held no duplicates.
+   *
+   * @param mask   the cards in the array
+   * @param length the length of the array
+   * @return the strength of the hand
+   */
+  private static int evaluateDistinct(long mask, int length) {
+    if (Long.bitCount(mask) != length) {
+      throw new IllegalArgumentException("A hand must not hold the same card twice.");
+    }
+    return evaluate(mask);
+  }
+
+  /**
+   * Returns the rank mask of a suit holding five or more cards, or 0 if there is none. Seven cards
+   * cannot hold two such suits.
+   */
+  private static int flush(int clubs, int diamonds, int spades, int hearts) {
+    if (Integer.bitCount(clubs) >= 5) {
+      return clubs;
+    }
+    if (Integer.bitCount(diamonds) >= 5) {
+      return diamonds;
+    }
+    if (Integer.bitCount(spades) >= 5) {
+      return spades;
+    }
+    return Integer.bitCount(hearts) >= 5 ? hearts : 0;
+  }
+
+  /**
+   * Returns the mask of ranks held at least three times.
+   */
+  private static int trips(int clubs, int diamonds, int spades, int hearts) {
+    return ((clubs & diamonds) | (spades & hearts)) & ((clubs & spades) | (diamonds & hearts));
+  }
+
+  /**
+   * Returns the strength of the two highest pairs, with the best remaining card as the kicker.
+   */
+  private static int twoPair(int ranks, int pairs) {
+    int high = topRank(pairs);
+    int low = topRank(pairs ^ (1 << high));
+    int kicker = topRank(ranks ^ (1 << high) ^ (1 << low));
+    return strength(HandCategory.TWO_PAIR, high << 16 | low << 12 | kicker << 8);
+  }
+
+  /**
+   * Returns the ordinal of the highest rank in a non-empty mask.
+   */
+  private static int topRank(int mask) {
+    return 31 - Integer.numberOfLeadingZeros(mask);
+  }
+
+  /**
+   * Combines a category with its packed rank ordinals.
+   */
+  private static int strength(HandCategory category, int ranks) {
+    return category.ordinal() << CATEGORY_SHIFT | ranks;
+  }
+}
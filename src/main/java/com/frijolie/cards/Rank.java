@@ -1,5 +1,9 @@
 package com.frijolie.cards;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * An enumeration of all possible {@link PlayingCard} ranks. Each {@code Rank} can be represented as
  * a word or a character. They will also have a numerical value.
@@ -40,6 +44,47 @@ public enum Rank {
   KING("King", 'K', 10),
   ACE("Ace", 'A', 11);
 
+  /**
+   * The number of ranks.
+   */
+  public static final int COUNT = 13;
+
+  /**
+   * Cached copy of {@link #values()}, indexed by ordinal, so lookups do not clone the array.
+   */
+  private static final Rank[] VALUES = values();
+
+  /**
+   * The ordinal of the rank with each ASCII letter, upper or lower case, or -1 if there is none.
+   */
+  private static final byte[] BY_LETTER = new byte[128];
+
+  /**
+   * The ranks with each value, indexed by value. Values without a rank hold an empty list.
+   */
+  private static final List<List<Rank>> BY_VALUE;
+
+  static {
+    Arrays.fill(BY_LETTER, (byte) -1);
+    int maxValue = 0;
+    for (Rank rank : VALUES) {
+      BY_LETTER[rank.letter] = (byte) rank.ordinal();
+      BY_LETTER[Character.toLowerCase(rank.letter)] = (byte) rank.ordinal();
+      maxValue = Math.max(maxValue, rank.value);
+    }
+    List<List<Rank>> byValue = new ArrayList<>();
+    for (int value = 0; value <= maxValue; value++) {
+      List<Rank> ranks = new ArrayList<>();
+      for (Rank rank : VALUES) {
+        if (rank.value == value) {
+          ranks.add(rank);
+        }
+      }
+      byValue.add(List.copyOf(ranks));
+    }
+    BY_VALUE = List.copyOf(byValue);
+  }
+
   /**
    * {@code Rank} in the form of a word. For example, "Jack"
    */
@@ -99,4 +144,57 @@ public enum Rank {
   public final int getValue() {
     return value;
   }
+
+  /**
+   * Returns the {@code Rank} with the given ordinal, without cloning {@link #values()}.
+   *
+   * @param ordinal the ordinal, from 0 (TWO) to 12 (ACE)
+   * @return the rank with that ordinal
+   * @throws IllegalArgumentException if the ordinal is out of range
+   */
+  public static Rank fromOrdinal(int ordinal) {
+    if (ordinal < 0 || ordinal >= COUNT) {
+      throw new IllegalArgumentException("There is no rank with ordinal " + ordinal);
+    }
+    return VALUES[ordinal];
+  }
+
+  /**
+   * Returns the {@code Rank} with the given letter. For example, 'Q' or 'q' for {@code QUEEN}.
+   *
+   * @param letter the letter, in upper or lower case
+   * @return the rank with that letter
+   * @throws IllegalArgumentException if no rank has that letter
+   * @see #getLetter()
+   */
+  public static Rank fromLetter(char letter) {
+    int ordinal = ordinalOf(letter);
+    if (ordinal < 0) {
+      throw new IllegalArgumentException("There is no rank with letter '" + letter + "'");
+    }
+    return VALUES[ordinal];
+  }
+
+  /**
+   * Returns every {@code Rank} with the given value. For example, TEN, JACK, QUEEN and KING for
+   * 10.
+   *
+   * @param value the value
+   * @return an unmodifiable list of the ranks with that value, in ascending order. Empty if there
+   *         are none.
+   * @see #getValue()
+   */
+  public static List<Rank> withValue(int value) {
+    return value >= 0 && value < BY_VALUE.size() ? BY_VALUE.get(value) : List.of();
+  }
+
+  /**
+   * Returns the ordinal of the rank with the given letter, in upper or lower case.
+   *
+   * @param letter the letter
+   * @return the rank ordinal, or -1 if no rank has that letter
+   */
+  static int ordinalOf(char letter) {
+    return letter < BY_LETTER.length ? BY_LETTER[letter] : -1;
+  }
 }
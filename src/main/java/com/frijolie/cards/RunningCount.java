@@ -0,0 +1,158 @@
+package com.frijolie.cards;
+
+import java.util.Objects;
+
+/**
+ * Keeps the running count of a {@link CountSystem} as cards are dealt, and the true count derived
+ * from it. Register it with {@link Deck#addDealListener(DealListener)} or {@link
+ * Shoe#addDealListener(DealListener)}; several counts using different systems can follow the same
+ * deal.
+ *
+ * <p>Cards drawn face up are counted. Burned cards are not seen, so they are not counted, but they
+ * no longer remain in the deck. A reset, or a shuffle of the whole shoe, restarts the count. A
+ * shuffle of only the undealt cards keeps it, because the cards already dealt are still out of
+ * play. Every update is a table lookup and an addition, and the true count is a single division.
+ *
+ * @see CountSystem
+ */
+public class RunningCount implements DealListener {
+
+  /**
+   * The counting system.
+   */
+  private final CountSystem system;
+
+  /**
+   * The number of decks being counted.
+   */
+  private final int numOfDecks;
+
+  /**
+   * The current running count.
+   */
+  private int runningCount;
+
+  /**
+   * The number of cards which have not been dealt.
+   */
+  private int remaining;
+
+  /**
+   * Constructor. Starts the count for a freshly shuffled shoe of the given size. Cards must be
+   * passed to it by registering it with a deck, or by calling {@link #count(int)}.
+   *
+   * @param system     the counting system
+   * @param numOfDecks the number of decks in the shoe
+   * @throws NullPointerException if {@code system} is {@code null}
+   */
+  public RunningCount(CountSystem system, int numOfDecks) {
+    this.system = Objects.requireNonNull(system, "You must pass a non null count system.");
+    this.numOfDecks = numOfDecks;
+    restart(numOfDecks * IntCard.COUNT);
+  }
+
+  /**
+   * Overloaded constructor. Starts the count for the given shoe and registers it to follow the
+   * deal.
+   *
+   * @param system the counting system
+   * @param shoe   the shoe to count
+   * @throws NullPointerException if either argument is {@code null}
+   */
+  public RunningCount(CountSystem system, Shoe shoe) {
+    this(system, shoe.getNumOfDecks());
+    remaining = shoe.remaining();
+    shoe.addDealListener(this);
+  }
+
+  /**
+   * Counts a card which has been seen.
+   *
+   * @param code the card code, from 0 to 51
+   */
+  public void count(int code) {
+    runningCount += system.weight(code);
+    remaining--;
+  }
+
+  @Override
+  public void cardDrawn(Card card) {
+    runningCount += system.weight(card);
+    remaining--;
+  }
+
+  @Override
+  public void cardBurned(Card card) {
+    remaining--;
+  }
+
+  @Override
+  public void shuffled(int remaining) {
+    if (remaining == numOfDecks * IntCard.COUNT) {
+      restart(remaining);
+    } else {
+      this.remaining = remaining;
+    }
+  }
+
+  @Override
+  public void reset(int remaining) {
+    restart(remaining);
+  }
+
+  /**
+   * Returns the running count.
+   *
+   * @return the sum of the weights of every card seen, plus the initial count
+   */
+  public int getRunningCount() {
+    return runningCount;
+  }
+
+  /**
+   * Returns the number of cards which have not been dealt.
+   *
+   * @return the number of remaining cards
+   */
+  public int getRemaining() {
+    return remaining;
+  }
+
+  /**
+   * Returns the number of decks which have not been dealt, as a fraction.
+   *
+   * @return the remaining cards divided by 52
+   */
+  public double getRemainingDecks() {
+    return (double) remaining / IntCard.COUNT;
+  }
+
+  /**
+   * Returns the true count: the running count divided by the number of decks remaining. If fewer
+   * than one card remains, the running count is returned unchanged.
+   *
+   * @return the true count
+   */
+  public double getTrueCount() {
+    return remaining > 0 ? runningCount / getRemainingDecks() : runningCount;
+  }
+
+  /**
+   * Returns the counting system.
+   *
+   * @return the counting system
+   */
+  public CountSystem getSystem() {
+    return system;
+  }
+
+  /**
+   * Restarts the count for a freshly shuffled shoe.
+   *
+   * @param remaining the number of cards in the shoe
+   */
+  private void restart(int remaining) {
+    this.runningCount = system.initialCount(numOfDecks);
+    this.remaining = remaining;
+  }
+}
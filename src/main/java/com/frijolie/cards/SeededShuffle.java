@@ -0,0 +1,182 @@
+package com.frijolie.cards;
+
+import java.util.Objects;
+
+/**
+ * A reproducible shuffle of a standard shoe: the order of its cards is a pure function of a seed,
+ * the number of decks and the {@link ShuffleAlgorithm}. Recording those three values is enough to
+ * regenerate the shoe exactly, for example to settle a dispute. Instances are immutable.
+ *
+ * <p>A table or casino typically derives the seed of every game from one master seed with {@link
+ * #forGame(long, long, int, ShuffleAlgorithm)}. The seed of game {@code n} is computed directly,
+ * in constant time, rather than by replaying the games before it. With {@link
+ * ShuffleAlgorithm#FEISTEL}, {@link #cardAt(int)} then finds any card of any game in constant time
+ * too.
+ *
+ * @see ShuffleAlgorithm
+ * @see CardCodec#encode(java.nio.ByteBuffer, SeededShuffle)
+ */
+public final class SeededShuffle {
+
+  /**
+   * The seed of the shuffle.
+   */
+  private final long seed;
+
+  /**
+   * The number of decks in the shoe.
+   */
+  private final int numOfDecks;
+
+  /**
+   * The algorithm which turns the seed into an order.
+   */
+  private final ShuffleAlgorithm algorithm;
+
+  /**
+   * Constructor.
+   *
+   * @param seed       the seed of the shuffle
+   * @param numOfDecks the number of decks in the shoe
+   * @param algorithm  the algorithm which turns the seed into an order
+   * @throws IllegalArgumentException if {@code numOfDecks} is out of range
+   * @throws NullPointerException if {@code algorithm} is {@code null}
+   */
+  public SeededShuffle(long seed, int numOfDecks, ShuffleAlgorithm algorithm) {
+    if (numOfDecks < 1 || numOfDecks > Integer.MAX_VALUE / IntCard.COUNT) {
+      throw new IllegalArgumentException("The number of decks is out of range: " + numOfDecks);
+    }
+    this.seed = seed;
+    this.numOfDecks = numOfDecks;
+    this.algorithm = Objects.requireNonNull(algorithm, "You must pass a non null algorithm.");
+  }
+
+  /**
+   * Returns the shuffle of a game in a sequence derived from one master seed.
+   *
+   * @param masterSeed the seed of the whole sequence
+   * @param game       the number of the game, from 0
+   * @param numOfDecks the number of decks in the shoe
+   * @param algorithm  the algorithm which turns the seed into an order
+   * @return the shuffle of that game
+   * @throws IllegalArgumentException if {@code numOfDecks} is out of range
+   * @throws NullPointerException if {@code algorithm} is {@code null}
+   * @see #gameSeed(long, long)
+   */
+  public static SeededShuffle forGame(long masterSeed, long game, int numOfDecks,
+      ShuffleAlgorithm algorithm) {
+    return new SeededShuffle(gameSeed(masterSeed, game), numOfDecks, algorithm);
+  }
+
+  /**
+   * Returns the seed of a game in a sequence derived from one master seed, in constant time. This
+   * is the value the {@code game + 1}th call to {@code new SplittableRandom(masterSeed).nextLong()}
+   * would return.
+   *
+   * @param masterSeed the seed of the whole sequence
+   * @param game       the number of the game, from 0
+   * @return the seed of that game
+   */
+  public static long gameSeed(long masterSeed, long game) {
+    return ShuffleAlgorithm.mix64(masterSeed + (game + 1) * ShuffleAlgorithm.GOLDEN_GAMMA);
+  }
+
+  /**
+   * Returns the card at the given position of the shuffled shoe. With {@link
+   * ShuffleAlgorithm#FEISTEL} this takes constant time; with {@link ShuffleAlgorithm#FISHER_YATES}
+   * the whole shoe is shuffled to find it.
+   *
+   * @param position the position, from 0 (the first card dealt) to {@link #size()} (exclusive)
+   * @return the canonical card at that position
+   * @throws IllegalArgumentException if the position is out of range
+   */
+  public PlayingCard cardAt(int position) {
+    if (position < 0 || position >= size()) {
+      throw new IllegalArgumentException("Position " + position + " is outside a shoe of "
+          + size() + " cards.");
+    }
+    return PlayingCard.of(algorithm.sourceIndex(size(), seed, position) % IntCard.COUNT);
+  }
+
+  /**
+   * Builds the shuffled shoe as a {@link Deck}.
+   *
+   * @return an undealt deck in the order of this shuffle
+   */
+  public Deck toDeck() {
+    return new Deck(this);
+  }
+
+  /**
+   * Builds the shuffled shoe as an {@link IntDeck}.
+   *
+   * @return an undealt deck in the order of this shuffle
+   */
+  public IntDeck toIntDeck() {
+    byte[] codes = new byte[size()];
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = (byte) (i % IntCard.COUNT);
+    }
+    algorithm.shuffle(codes, seed);
+    return new IntDeck(codes);
+  }
+
+  /**
+   * Returns the seed of the shuffle.
+   *
+   * @return the seed
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns the number of decks in the shoe.
+   *
+   * @return the number of decks
+   */
+  public int getNumOfDecks() {
+    return numOfDecks;
+  }
+
+  /**
+   * Returns the algorithm which turns the seed into an order.
+   *
+   * @return the algorithm
+   */
+  public ShuffleAlgorithm getAlgorithm() {
+    return algorithm;
+  }
+
+  /**
+   * Returns the number of cards in the shoe.
+   *
+   * @return 52 times the number of decks
+   */
+  public int size() {
+    return numOfDecks * IntCard.COUNT;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    SeededShuffle that = (SeededShuffle) o;
+    return seed == that.seed && numOfDecks == that.numOfDecks && algorithm == that.algorithm;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(seed, numOfDecks, algorithm);
+  }
+
+  @Override
+  public String toString() {
+    return "SeededShuffle{seed=" + seed + ", numOfDecks=" + numOfDecks + ", version="
+        + algorithm.getVersion() + "}";
+  }
+}
@@ -0,0 +1,286 @@
+package com.frijolie.cards;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A dealing shoe holding several shuffled {@link Deck}s, as used for casino games such as
+ * blackjack. A cut card is placed at a fixed penetration into the shoe. Once it is reached the
+ * current round is finished and the shoe is reshuffled before the next one.
+ *
+ * <p>Reshuffling is lazy: nothing happens until {@link #reshuffleIfNeeded()} is called after the
+ * cut card has been reached, or the shoe runs out of cards mid-round. When an {@link Executor} is
+ * supplied, the next shoe is shuffled on it in the background as soon as the current one is put in
+ * play, so a reshuffle only copies the prepared cards and the deal loop never waits on a shuffle.
+ *
+ * <p>A {@code Shoe} is not thread-safe. When a {@link RandomGenerator} is supplied it is only used
+ * by one shuffle at a time, so it need not be thread-safe either.
+ *
+ * @see Deck
+ */
+public class Shoe {
+
+  /**
+   * The cards in play.
+   */
+  private final Deck deck;
+
+  /**
+   * The composition of each deck in the shoe.
+   */
+  private final DeckSpec spec;
+
+  /**
+   * The number of decks in the shoe.
+   */
+  private final int numOfDecks;
+
+  /**
+   * The number of cards dealt when the cut card is reached.
+   */
+  private final int cutCard;
+
+  /**
+   * The source of randomness for shuffles, or {@code null} to use the shuffling thread's {@link
+   * ThreadLocalRandom}.
+   */
+  private final RandomGenerator random;
+
+  /**
+   * The executor which prepares the next shoe, or {@code null} to shuffle on the dealing thread.
+   */
+  private final Executor executor;
+
+  /**
+   * The next shoe, being shuffled in the background, or {@code null} if there is no executor.
+   */
+  private CompletableFuture<Deck> next;
+
+  /**
+   * Constructor. Shuffles on the dealing thread when the cut card is reached.
+   *
+   * @param numOfDecks  the number of decks in the shoe
+   * @param penetration the fraction of the shoe dealt before the cut card, greater than 0 and at
+   *                    most 1
+   * @throws IllegalArgumentException if either argument is out of range
+   */
+  public Shoe(int numOfDecks, double penetration) {
+    this(numOfDecks, penetration, null, null);
+  }
+
+  /**
+   * Overloaded constructor. Shuffles on the dealing thread, using the given source of randomness.
+   *
+   * @param numOfDecks  the number of decks in the shoe
+   * @param penetration the fraction of the shoe dealt before the cut card, greater than 0 and at
+   *                    most 1
+   * @param random      the source of randomness
+   * @throws IllegalArgumentException if {@code numOfDecks} or {@code penetration} is out of range
+   * @throws NullPointerException     if {@code random} is {@code null}
+   */
+  public Shoe(int numOfDecks, double penetration, RandomGenerator random) {
+    this(numOfDecks, penetration, Deck.requireRandom(random), null);
+  }
+
+  /**
+   * Overloaded constructor. Shuffles the next shoe in the background on the given executor, using
+   * the given source of randomness.
+   *
+   * @param numOfDecks  the number of decks in the shoe
+   * @param penetration the fraction of the shoe dealt before the cut card, greater than 0 and at
+   *                    most 1
+   * @param random      the source of randomness, or {@code null} to use {@link ThreadLocalRandom}
+   * @param executor    the executor which shuffles the next shoe, or {@code null} to shuffle on
+   *                    the dealing thread
+   * @throws IllegalArgumentException if {@code numOfDecks} or {@code penetration} is out of range
+   */
+  public Shoe(int numOfDecks, double penetration, RandomGenerator random, Executor executor) {
+    this(DeckSpec.STANDARD, numOfDecks, penetration, random, executor);
+  }
+
+  /**
+   * Overloaded constructor. Holds decks of a variant composition, such as {@link
+   * DeckSpec#SPANISH_21}, shuffling the next shoe in the background on the given executor.
+   *
+   * @param spec        the composition of each deck
+   * @param numOfDecks  the number of decks in the shoe
+   * @param penetration the fraction of the shoe dealt before the cut card, greater than 0 and at
+   *                    most 1
+   * @param random      the source of randomness, or {@code null} to use {@link ThreadLocalRandom}
+   * @param executor    the executor which shuffles the next shoe, or {@code null} to shuffle on
+   *                    the dealing thread
+   * @throws IllegalArgumentException if {@code numOfDecks} or {@code penetration} is out of range
+   * @throws NullPointerException if {@code spec} is {@code null}
+   */
+  public Shoe(DeckSpec spec, int numOfDecks, double penetration, RandomGenerator random,
+      Executor executor) {
+    this.spec = Objects.requireNonNull(spec, "You must pass a non null deck spec.");
+    if (numOfDecks < 1) {
+      throw new IllegalArgumentException("A shoe must hold at least one deck: " + numOfDecks);
+    }
+    if (!(penetration > 0 && penetration <= 1)) {
+      throw new IllegalArgumentException("Penetration must be in (0, 1]: " + penetration);
+    }
+    this.numOfDecks = numOfDecks;
+    this.random = random;
+    this.executor = executor;
+    this.deck = shuffledDeck();
+    this.cutCard = Math.max(1, (int) Math.round(deck.size() * penetration));
+    prepareNext();
+  }
+
+  /**
+   * Removes and returns the next card. If the shoe is empty, it is reshuffled first.
+   *
+   * @return the next card
+   */
+  public Card draw() {
+    if (deck.remaining() == 0) {
+      reshuffle();
+    }
+    return deck.draw();
+  }
+
+  /**
+   * Removes the next card without revealing it. If the shoe is empty, it is reshuffled first.
+   */
+  public void burn() {
+    if (deck.remaining() == 0) {
+      reshuffle();
+    }
+    deck.burn();
+  }
+
+  /**
+   * Returns {@code true} if the cut card has been reached, so the shoe should be reshuffled after
+   * the current round.
+   *
+   * @return {@code true} if the cut card has been reached
+   */
+  public boolean isCutCardReached() {
+    return dealt() >= cutCard;
+  }
+
+  /**
+   * Reshuffles the shoe if the cut card has been reached. Call this between rounds.
+   *
+   * @return {@code true} if the shoe was reshuffled
+   */
+  public boolean reshuffleIfNeeded() {
+    if (!isCutCardReached()) {
+      return false;
+    }
+    reshuffle();
+    return true;
+  }
+
+  /**
+   * Returns every card to the shoe and puts a freshly shuffled order in play. If the next shoe is
+   * being prepared in the background, this waits for it to finish.
+   */
+  public void reshuffle() {
+    if (next == null) {
+      deck.reset();
+      deck.shuffle(random());
+      return;
+    }
+    deck.replaceWith(next.join());
+    prepareNext();
+  }
+
+  /**
+   * Registers a listener to be told about every card dealt from this shoe, and every reshuffle.
+   *
+   * @param listener the listener to add
+   * @throws NullPointerException if the argument is {@code null}
+   * @see Deck#addDealListener(DealListener)
+   */
+  public void addDealListener(DealListener listener) {
+    deck.addDealListener(listener);
+  }
+
+  /**
+   * Removes a listener added by {@link #addDealListener(DealListener)}.
+   *
+   * @param listener the listener to remove
+   * @return {@code true} if the listener was registered
+   */
+  public boolean removeDealListener(DealListener listener) {
+    return deck.removeDealListener(listener);
+  }
+
+  /**
+   * Returns the number of cards which have not been dealt.
+   *
+   * @return the number of remaining cards
+   */
+  public int remaining() {
+    return deck.remaining();
+  }
+
+  /**
+   * Returns the number of cards dealt since the last shuffle.
+   *
+   * @return the number of dealt cards
+   */
+  public int dealt() {
+    return deck.size() - deck.remaining();
+  }
+
+  /**
+   * Returns the number of cards in the shoe, including those which have been dealt.
+   *
+   * @return the total number of cards
+   */
+  public int size() {
+    return deck.size();
+  }
+
+  /**
+   * Returns the number of decks in the shoe.
+   *
+   * @return the number of decks
+   */
+  public int getNumOfDecks() {
+    return numOfDecks;
+  }
+
+  /**
+   * Returns the number of cards dealt when the cut card is reached.
+   *
+   * @return the position of the cut card
+   */
+  public int getCutCard() {
+    return cutCard;
+  }
+
+  /**
+   * Starts shuffling the next shoe in the background, if there is an executor.
+   */
+  private void prepareNext() {
+    if (executor != null) {
+      next = CompletableFuture.supplyAsync(this::shuffledDeck, executor);
+    }
+  }
+
+  /**
+   * Builds a shuffled deck the size of the shoe, on the calling thread.
+   *
+   * @return a new shuffled deck
+   */
+  private Deck shuffledDeck() {
+    return random == null ? new Deck(spec, numOfDecks, true) : new Deck(spec, numOfDecks, random);
+  }
+
+  /**
+   * Returns the source of randomness for a shuffle on the calling thread.
+   *
+   * @return the generator given to the constructor, or the current {@link ThreadLocalRandom}
+   */
+  private RandomGenerator random() {
+    return random != null ? random : ThreadLocalRandom.current();
+  }
+}
@@ -0,0 +1,252 @@
+package com.frijolie.cards;
+
+import java.util.SplittableRandom;
+
+/**
+ * The versioned algorithms by which a {@link SeededShuffle} turns a seed into an order of cards.
+ * The order produced by a version never changes, so a shoe recorded as a seed, a number of decks
+ * and a version can be regenerated exactly, however much later.
+ *
+ * <p>Both algorithms permute an unshuffled deck, in which the card at position {@code i} has the
+ * {@link IntCard} code {@code i % 52}.
+ *
+ * @see SeededShuffle
+ */
+public enum ShuffleAlgorithm {
+
+  /**
+   * Version 1: a Fisher–Yates shuffle, from the last position down, drawing each index from a
+   * SplitMix64 sequence started at the seed. This was the order of {@code new Deck(numOfDecks, new
+   * SplittableRandom(seed))} when the version was defined. The generator and the derivation of
+   * each bounded index are implemented here, so the order does not change with the JDK or with
+   * the shuffles the decks use. Every order is equally likely, but finding the card at one
+   * position means shuffling the whole deck.
+   */
+  FISHER_YATES(1) {
+    @Override
+    void shuffle(Object[] cards, long seed) {
+      SplitMix random = new SplitMix(seed);
+      for (int i = cards.length - 1; i > 0; i--) {
+        int j = random.nextIndex(i + 1);
+        Object swap = cards[i];
+        cards[i] = cards[j];
+        cards[j] = swap;
+      }
+    }
+
+    @Override
+    void shuffle(byte[] codes, long seed) {
+      SplitMix random = new SplitMix(seed);
+      for (int i = codes.length - 1; i > 0; i--) {
+        int j = random.nextIndex(i + 1);
+        byte swap = codes[i];
+        codes[i] = codes[j];
+        codes[j] = swap;
+      }
+    }
+
+    @Override
+    int sourceIndex(int size, long seed, int position) {
+      int[] indexes = new int[size];
+      for (int i = 0; i < size; i++) {
+        indexes[i] = i;
+      }
+      SplitMix random = new SplitMix(seed);
+      for (int i = size - 1; i > 0; i--) {
+        int j = random.nextIndex(i + 1);
+        int swap = indexes[i];
+        indexes[i] = indexes[j];
+        indexes[j] = swap;
+      }
+      return indexes[position];
+    }
+  },
+
+  /**
+   * Version 2: a keyed Feistel network over the positions of the deck, cycle-walked to fit its
+   * size. The card at any position is computed on its own in constant time, so a shoe can be
+   * audited or dealt lazily without building it. Orders are well mixed, but not every order of a
+   * large shoe is reachable, so prefer version 1 where each order must be equally likely.
+   */
+  FEISTEL(2) {
+    @Override
+    void shuffle(Object[] cards, long seed) {
+      Object[] source = cards.clone();
+      for (int position = 0; position < cards.length; position++) {
+        cards[position] = source[sourceIndex(cards.length, seed, position)];
+      }
+    }
+
+    @Override
+    void shuffle(byte[] codes, long seed) {
+      byte[] source = codes.clone();
+      for (int position = 0; position < codes.length; position++) {
+        codes[position] = source[sourceIndex(codes.length, seed, position)];
+      }
+    }
+
+    @Override
+    int sourceIndex(int size, long seed, int position) {
+      int bits = Math.max(2, Integer.SIZE - Integer.numberOfLeadingZeros(size - 1));
+      int half = (bits + 1) / 2;
+      int mask = (1 << half) - 1;
+      int index = position;
+      do {
+        int left = index >>> half;
+        int right = index & mask;
+        for (int round = 1; round <= ROUNDS; round++) {
+          int next = left ^ (int) mix64(seed + round * GOLDEN_GAMMA ^ right) & mask;
+          left = right;
+          right = next;
+        }
+        index = left << half | right;
+      } while (index >= size);
+      return index;
+    }
+  };
+
+  /**
+   * The number of Feistel rounds.
+   */
+  private static final int ROUNDS = 6;
+
+  /**
+   * The odd constant which {@link SplittableRandom} adds to its seed for every value.
+   */
+  static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  /**
+   * The version recorded alongside a seed.
+   */
+  private final int version;
+
+  /**
+   * Constructor.
+   *
+   * @param version the version recorded alongside a seed
+   */
+  ShuffleAlgorithm(int version) {
+    this.version = version;
+  }
+
+  /**
+   * Returns the version recorded alongside a seed to identify this algorithm.
+   *
+   * @return the version, from 1
+   */
+  public int getVersion() {
+    return version;
+  }
+
+  /**
+   * Returns the algorithm with the given version.
+   *
+   * @param version the recorded version
+   * @return the algorithm
+   * @throws IllegalArgumentException if there is no algorithm with that version
+   */
+  public static ShuffleAlgorithm fromVersion(int version) {
+    for (ShuffleAlgorithm algorithm : values()) {
+      if (algorithm.version == version) {
+        return algorithm;
+      }
+    }
+    throw new IllegalArgumentException("There is no shuffle algorithm with version " + version);
+  }
+
+  /**
+   * Shuffles a whole array of cards in place.
+   *
+   * @param cards the cards, in unshuffled order
+   * @param seed  the seed of the shuffle
+   */
+  abstract void shuffle(Object[] cards, long seed);
+
+  /**
+   * Shuffles a whole array of card codes in place.
+   *
+   * @param codes the codes, in unshuffled order
+   * @param seed  the seed of the shuffle
+   */
+  abstract void shuffle(byte[] codes, long seed);
+
+  /**
+   * Returns the position in the unshuffled deck of the card which a shuffle moves to the given
+   * position.
+   *
+   * @param size     the number of cards in the deck
+   * @param seed     the seed of the shuffle
+   * @param position the position in the shuffled deck
+   * @return the position in the unshuffled deck
+   */
+  abstract int sourceIndex(int size, long seed, int position);
+
+  /**
+   * The frozen generator of {@link #FISHER_YATES}: the 32-bit outputs of SplitMix64, as produced
+   * by {@link SplittableRandom#nextInt()}, and the rejection sampling by which an index below a
+   * bound is drawn from them.
+   */
+  private static final class SplitMix {
+
+    /**
+     * The state, advanced by {@link #GOLDEN_GAMMA} for every output.
+     */
+    private long seed;
+
+    /**
+     * Constructor.
+     *
+     * @param seed the initial state
+     */
+    SplitMix(long seed) {
+      this.seed = seed;
+    }
+
+    /**
+     * Returns the next 32 random bits.
+     *
+     * @return the next output
+     */
+    int nextInt() {
+      seed += GOLDEN_GAMMA;
+      long z = (seed ^ (seed >>> 33)) * 0x62a9d9ed799705f5L;
+      return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    /**
+     * Returns a uniformly random index below a bound. A power of two takes the low bits of one
+     * output. Any other bound takes the remainder of 31 bits, rejecting the outputs from the
+     * incomplete last multiple of the bound.
+     *
+     * @param bound the number of possible indexes, at least 1
+     * @return an index from 0 (inclusive) to {@code bound} (exclusive)
+     */
+    int nextIndex(int bound) {
+      int r = nextInt();
+      int m = bound - 1;
+      if ((bound & m) == 0) {
+        return r & m;
+      }
+      int u = r >>> 1;
+      r = u % bound;
+      while (u + m - r < 0) {
+        u = nextInt() >>> 1;
+        r = u % bound;
+      }
+      return r;
+    }
+  }
+
+  /**
+   * The finalizer of SplitMix64, as used by {@link SplittableRandom}: a bijection which spreads
+   * every input bit across the whole output.
+   *
+   * @param z the value to mix
+   * @return the mixed value
+   */
+  static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
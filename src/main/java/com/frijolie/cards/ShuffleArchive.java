@@ -0,0 +1,445 @@
+package com.frijolie.cards;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+/**
+ * An append-only archive of dealt decks, numbered by game id from zero. Auditors can read any game
+ * directly, without reading the games before it.
+ *
+ * <p>The archive is two files. The data file holds the games back to back as {@link CardCodec}
+ * records, either every card or just the seed of the shuffle. The index file, named after the data
+ * file with an {@code .idx} suffix, holds a fixed 16-byte entry per game: the offset and length of
+ * its record and a CRC-32C checksum of it. Both files are read through memory mappings of up to a
+ * gigabyte each, made as they are first needed, so reading a game costs two lookups and the
+ * archive may grow far beyond the size of the heap.
+ *
+ * <p>A game is appended by writing its record, then its index entry. The entry is what commits the
+ * game, and its checksum lets a torn write be detected: when an archive is opened for writing, any
+ * trailing games whose record is missing or does not match its checksum are discarded, along with
+ * any data after the last good record. Appending does not wait for the disk; call {@link #sync()}
+ * for that.
+ *
+ * <p>Any number of threads may read at once, including while another appends. Appends are
+ * serialized, and a game becomes visible to readers once its index entry is written. An archive
+ * opened for writing holds an exclusive lock on its data file until it is closed, so only one
+ * writer, in any process, can open it at a time.
+ *
+ * @see CardCodec
+ */
+public class ShuffleArchive implements Closeable {
+
+  /**
+   * The size of an index entry: an 8-byte offset, a 4-byte length and a 4-byte checksum.
+   */
+  private static final int ENTRY_BYTES = 16;
+
+  /**
+   * The largest part of a file covered by one mapping.
+   */
+  private static final int SEGMENT_BYTES = 1 << 30;
+
+  /**
+   * The data file.
+   */
+  private final FileChannel data;
+
+  /**
+   * The index file.
+   */
+  private final FileChannel index;
+
+  /**
+   * The mappings of the data file.
+   */
+  private final Mapping dataMapping;
+
+  /**
+   * The mappings of the index file.
+   */
+  private final Mapping indexMapping;
+
+  /**
+   * {@code true} if games cannot be appended.
+   */
+  private final boolean readOnly;
+
+  /**
+   * The number of committed games.
+   */
+  private volatile long games;
+
+  /**
+   * The length of the data file up to the end of the last committed game. Guarded by this.
+   */
+  private long dataEnd;
+
+  /**
+   * The buffer a record is encoded into before it is written. Guarded by this.
+   */
+  private ByteBuffer record = ByteBuffer.allocate(512);
+
+  /**
+   * The buffer an index entry is encoded into before it is written. Guarded by this.
+   */
+  private final ByteBuffer entry = ByteBuffer.allocate(ENTRY_BYTES);
+
+  /**
+   * Constructor. Opens an archive for appending, creating it if it does not exist and discarding
+   * any incomplete game left by a crash.
+   *
+   * @param file the data file. The index file is kept beside it.
+   * @throws IOException if the files cannot be opened or repaired
+   */
+  public ShuffleArchive(Path file) throws IOException {
+    this(file, false, SEGMENT_BYTES);
+  }
+
+  /**
+   * Overloaded constructor. A read-only archive must already exist. It is never modified, and
+   * ignores any incomplete game at its end, so it can be opened while another process appends.
+   *
+   * @param file     the data file. The index file is kept beside it.
+   * @param readOnly {@code true} to open the archive for reading only
+   * @throws IOException if the files cannot be opened or repaired
+   */
+  public ShuffleArchive(Path file, boolean readOnly) throws IOException {
+    this(file, readOnly, SEGMENT_BYTES);
+  }
+
+  /**
+   * Opens the archive, mapping at most {@code segmentBytes} of each file at a time.
+   *
+   * @param file         the data file
+   * @param readOnly     {@code true} to open the archive for reading only
+   * @param segmentBytes the largest part of a file covered by one mapping, a multiple of 16
+   * @throws IOException if the files cannot be opened or repaired
+   */
+  ShuffleArchive(Path file, boolean readOnly, int segmentBytes) throws IOException {
+    Objects.requireNonNull(file, "You must pass a non null file.");
+    Path indexFile = file.resolveSibling(file.getFileName() + ".idx");
+    StandardOpenOption[] options = readOnly
+        ? new StandardOpenOption[] {StandardOpenOption.READ}
+        : new StandardOpenOption[] {StandardOpenOption.READ, StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE};
+    this.readOnly = readOnly;
+    this.data = FileChannel.open(file, options);
+    try {
+      this.index = FileChannel.open(indexFile, options);
+      if (!readOnly) {
+        lock();
+      }
+      recover();
+    } catch (IOException | RuntimeException e) {
+      close();
+      throw e;
+    }
+    this.dataMapping = new Mapping(data, segmentBytes);
+    this.indexMapping = new Mapping(index, segmentBytes);
+  }
+
+  /**
+   * Takes the exclusive lock of a writer, which is released when the data file is closed.
+   *
+   * @throws IOException if another writer holds the lock, or it cannot be taken
+   */
+  private void lock() throws IOException {
+    FileLock lock;
+    try {
+      lock = data.tryLock();
+    } catch (OverlappingFileLockException e) {
+      lock = null;
+    }
+    if (lock == null) {
+      throw new IOException("The archive is already open for writing.");
+    }
+  }
+
+  /**
+   * Finds the last game whose record is complete and matches its checksum, and unless the archive
+   * is read-only, cuts both files off after it. The files are read without mapping them, so
+   * nothing is mapped past the end of a file once it is cut.
+   */
+  private void recover() throws IOException {
+    long count = index.size() / ENTRY_BYTES;
+    long dataSize = data.size();
+    while (count > 0) {
+      ByteBuffer last = readFully(index, (count - 1) * ENTRY_BYTES, ENTRY_BYTES);
+      long offset = last.getLong();
+      int length = last.getInt();
+      if (offset >= 0 && length > 0 && offset + length <= dataSize
+          && checksum(readFully(data, offset, length)) == last.getInt()) {
+        dataEnd = offset + length;
+        break;
+      }
+      count--;
+    }
+    if (!readOnly) {
+      index.truncate(count * ENTRY_BYTES);
+      data.truncate(dataEnd);
+    }
+    games = count;
+  }
+
+  /**
+   * Appends a game which dealt the given cards, in iteration order. Pass {@link Deck#getDeck()}
+   * before dealing to record a shuffled deck.
+   *
+   * @param cards the order of the cards
+   * @return the game id
+   * @throws IllegalStateException if the archive is read-only
+   * @throws IOException if the archive cannot be written
+   * @throws NullPointerException if the argument or any card is {@code null}
+   */
+  public synchronized long append(Collection<? extends Card> cards) throws IOException {
+    Objects.requireNonNull(cards, "You must pass a non null collection of cards.");
+    prepare(cards.size());
+    CardCodec.encode(record, cards);
+    return commit();
+  }
+
+  /**
+   * Appends a game which dealt a versioned seeded shuffle. This takes at most 15 bytes however
+   * large the shoe, and {@link #read(long)} regenerates it with the recorded algorithm.
+   *
+   * @param shuffle the shuffle of the game
+   * @return the game id
+   * @throws IllegalStateException if the archive is read-only
+   * @throws IOException if the archive cannot be written
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public synchronized long append(SeededShuffle shuffle) throws IOException {
+    Objects.requireNonNull(shuffle, "You must pass a non null shuffle.");
+    prepare(1 + Long.BYTES);
+    CardCodec.encode(record, shuffle);
+    return commit();
+  }
+
+  /**
+   * Appends a game which dealt {@code new Deck(numOfDecks, new SplittableRandom(seed))}. This
+   * takes at most 14 bytes however large the shoe.
+   *
+   * @param numOfDecks the number of decks
+   * @param seed       the seed of the shuffle
+   * @return the game id
+   * @throws IllegalArgumentException if {@code numOfDecks} is less than one
+   * @throws IllegalStateException if the archive is read-only
+   * @throws IOException if the archive cannot be written
+   */
+  public synchronized long appendSeeded(int numOfDecks, long seed) throws IOException {
+    prepare(0);
+    CardCodec.encodeSeeded(record, numOfDecks, seed);
+    return commit();
+  }
+
+  /**
+   * Reads the order of the cards dealt in a game. The record is decoded straight from the mapped
+   * file into the deck.
+   *
+   * @param gameId the game id, from 0 (inclusive) to {@link #size()} (exclusive)
+   * @return an undealt deck of the cards in the game
+   * @throws IllegalArgumentException if there is no game with that id
+   * @throws IOException if the record does not match its checksum
+   */
+  public IntDeck read(long gameId) throws IOException {
+    if (gameId < 0 || gameId >= games) {
+      throw new IllegalArgumentException("There is no game with id " + gameId + ". The archive "
+          + "holds " + games + " games.");
+    }
+    ByteBuffer found = indexMapping.slice(gameId * ENTRY_BYTES, ENTRY_BYTES);
+    long offset = found.getLong();
+    ByteBuffer bytes = dataMapping.slice(offset, found.getInt());
+    if (checksum(bytes) != found.getInt()) {
+      throw new IOException("Game " + gameId + " does not match its checksum.");
+    }
+    return CardCodec.decodeDeck(bytes);
+  }
+
+  /**
+   * Returns the number of games in the archive.
+   *
+   * @return the number of committed games
+   */
+  public long size() {
+    return games;
+  }
+
+  /**
+   * Waits until every appended game has been written to the disk.
+   *
+   * @throws IOException if the files cannot be synchronized
+   */
+  public synchronized void sync() throws IOException {
+    if (!readOnly) {
+      data.force(false);
+      index.force(false);
+    }
+  }
+
+  /**
+   * Closes both files. Games already read remain valid.
+   *
+   * @throws IOException if either file cannot be closed
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    try {
+      data.close();
+    } finally {
+      if (index != null) {
+        index.close();
+      }
+    }
+  }
+
+  /**
+   * Clears the record buffer, growing it if a sequence of cards might not fit.
+   */
+  private void prepare(int cards) {
+    if (readOnly) {
+      throw new IllegalStateException("The archive was opened read-only.");
+    }
+    int needed = 1 + 5 + Math.max(cards, Long.BYTES);
+    if (record.capacity() < needed) {
+      record = ByteBuffer.allocate(Math.max(needed, record.capacity() * 2));
+    }
+    record.clear();
+  }
+
+  /**
+   * Writes the encoded record and then its index entry.
+   *
+   * @return the id of the new game
+   */
+  private long commit() throws IOException {
+    record.flip();
+    int length = record.remaining();
+    int crc = checksum(record);
+    write(data, record, dataEnd);
+    entry.clear();
+    entry.putLong(dataEnd).putInt(length).putInt(crc).flip();
+    long id = games;
+    write(index, entry, id * ENTRY_BYTES);
+    dataEnd += length;
+    games = id + 1;
+    return id;
+  }
+
+  /**
+   * Writes every remaining byte of a buffer at the given position.
+   */
+  private static void write(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  /**
+   * Reads the given bytes of a file into a new buffer, failing if the file ends before them.
+   */
+  private static ByteBuffer readFully(FileChannel channel, long position, int length)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      int count = channel.read(buffer, position + buffer.position());
+      if (count < 0) {
+        throw new EOFException("The file ends before byte " + (position + length) + ".");
+      }
+    }
+    return buffer.flip();
+  }
+
+  /**
+   * Returns the CRC-32C of the remaining bytes of a buffer, without moving its position.
+   */
+  private static int checksum(ByteBuffer buffer) {
+    CRC32C crc = new CRC32C();
+    crc.update(buffer.duplicate());
+    return (int) crc.getValue();
+  }
+
+  /**
+   * The read-only memory mappings of a file, one per segment, made as they are first needed and
+   * remade when the file has grown past the end of the last one.
+   */
+  private static final class Mapping {
+
+    /**
+     * The mapped file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The largest part of the file covered by one mapping.
+     */
+    private final int segmentBytes;
+
+    /**
+     * The mapping of each segment, or {@code null} where none has been made. Replaced whole, so
+     * readers never see a partly updated array.
+     */
+    private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+
+    Mapping(FileChannel channel, int segmentBytes) {
+      this.channel = channel;
+      this.segmentBytes = segmentBytes;
+    }
+
+    /**
+     * Returns a buffer over the given bytes of the file. Where they lie within one segment this
+     * is a view of the mapping; otherwise they are copied.
+     */
+    ByteBuffer slice(long position, int length) throws IOException {
+      int first = (int) (position / segmentBytes);
+      int offset = (int) (position % segmentBytes);
+      if (offset + length <= segmentBytes) {
+        return segment(first, offset + length).slice(offset, length);
+      }
+      ByteBuffer copy = ByteBuffer.allocate(length);
+      while (copy.hasRemaining()) {
+        int count = Math.min(copy.remaining(), segmentBytes - offset);
+        copy.put(segment(first++, offset + count).slice(offset, count));
+        offset = 0;
+      }
+      return copy.flip();
+    }
+
+    /**
+     * Returns the mapping of a segment which covers at least {@code needed} of its bytes.
+     */
+    private MappedByteBuffer segment(int i, int needed) throws IOException {
+      MappedByteBuffer[] current = segments;
+      if (i < current.length && current[i] != null && current[i].capacity() >= needed) {
+        return current[i];
+      }
+      synchronized (this) {
+        current = segments;
+        if (i < current.length && current[i] != null && current[i].capacity() >= needed) {
+          return current[i];
+        }
+        long start = (long) i * segmentBytes;
+        long size = Math.min(segmentBytes, channel.size() - start);
+        if (size < needed) {
+          throw new IOException("The file ends before byte " + (start + needed) + ".");
+        }
+        MappedByteBuffer[] grown = Arrays.copyOf(current, Math.max(current.length, i + 1));
+        grown[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        segments = grown;
+        return grown[i];
+      }
+    }
+  }
+}
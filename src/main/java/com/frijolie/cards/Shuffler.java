@@ -0,0 +1,55 @@
+package com.frijolie.cards;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * In-place Fisher–Yates shuffles over the backing arrays of the decks in this package. Only the
+ * elements from {@code from} (inclusive) to {@code to} (exclusive) are permuted, so dealt cards
+ * can be left where they are.
+ *
+ * <p>The source of randomness is supplied by the caller. A generator must not be shared between
+ * threads unless it is thread-safe; {@link java.util.random.RandomGenerator.SplittableGenerator}
+ * can be split to give every thread its own independent stream.
+ */
+final class Shuffler {
+
+  /**
+   * This class only contains static methods.
+   */
+  private Shuffler() {
+  }
+
+  /**
+   * Shuffles a range of an array of objects.
+   *
+   * @param array  the array to shuffle
+   * @param from   the first index to shuffle
+   * @param to     the index after the last to shuffle
+   * @param random the source of randomness
+   */
+  static void shuffle(Object[] array, int from, int to, RandomGenerator random) {
+    for (int i = to - 1; i > from; i--) {
+      int j = random.nextInt(from, i + 1);
+      Object swap = array[i];
+      array[i] = array[j];
+      array[j] = swap;
+    }
+  }
+
+  /**
+   * Shuffles a range of an array of bytes.
+   *
+   * @param array  the array to shuffle
+   * @param from   the first index to shuffle
+   * @param to     the index after the last to shuffle
+   * @param random the source of randomness
+   */
+  static void shuffle(byte[] array, int from, int to, RandomGenerator random) {
+    for (int i = to - 1; i > from; i--) {
+      int j = random.nextInt(from, i + 1);
+      byte swap = array[i];
+      array[i] = array[j];
+      array[j] = swap;
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package com.frijolie.cards;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * A Monte Carlo simulation engine. Runs a {@link Trial} many times, each time against a freshly
+ * shuffled {@link Deck}, and counts how often each outcome occurs.
+ *
+ * <p>The decks are {@link Deck#lazy(int, java.util.random.RandomGenerator) lazy}, so a trial
+ * costs only as much shuffling as the cards it deals. A trial which deals ten cards from an eight
+ * deck shoe makes ten random swaps rather than 415.
+ *
+ * <p>Trials are split recursively across a {@link ForkJoinPool}. Every leaf task owns its deck and
+ * a generator split from its parent's, so workers share nothing while they run and their counts
+ * are merged as the tasks join, without locks or atomics. Because the work is always split at the
+ * same points, a seeded generator gives the same result however many threads take part.
+ *
+ * @see SimulationResult
+ */
+public class Simulation {
+
+  /**
+   * The number of trials below which a task runs them itself rather than splitting.
+   */
+  private static final long LEAF_TRIALS = 4096;
+
+  /**
+   * The number of decks dealt by each trial.
+   */
+  private final int numOfDecks;
+
+  /**
+   * The number of distinct outcomes a trial can return.
+   */
+  private final int outcomes;
+
+  /**
+   * The pool which runs the trials.
+   */
+  private final ForkJoinPool pool;
+
+  /**
+   * The generator from which every worker's generator is split.
+   */
+  private final SplittableGenerator random;
+
+  /**
+   * A single trial of a simulation.
+   */
+  @FunctionalInterface
+  public interface Trial {
+
+    /**
+     * Runs the trial, dealing from the given deck.
+     *
+     * @param deck a shuffled deck with no cards dealt. It is reused by later trials, so the trial
+     *             must not keep a reference to it.
+     * @return the outcome, from 0 (inclusive) to the number of outcomes (exclusive)
+     */
+    int run(Deck deck);
+  }
+
+  /**
+   * Constructor. Runs on the common pool with an unseeded generator.
+   *
+   * @param numOfDecks the number of decks dealt by each trial
+   * @param outcomes   the number of distinct outcomes a trial can return
+   * @throws IllegalArgumentException if either argument is less than one
+   */
+  public Simulation(int numOfDecks, int outcomes) {
+    this(numOfDecks, outcomes, ForkJoinPool.commonPool(), new SplittableRandom());
+  }
+
+  /**
+   * Overloaded constructor. Runs on the given pool, splitting every worker's generator from the
+   * given one. Pass a seeded generator for a reproducible simulation.
+   *
+   * @param numOfDecks the number of decks dealt by each trial
+   * @param outcomes   the number of distinct outcomes a trial can return
+   * @param pool       the pool which runs the trials
+   * @param random     the generator from which every worker's generator is split
+   * @throws IllegalArgumentException if {@code numOfDecks} or {@code outcomes} is less than one
+   * @throws NullPointerException if {@code pool} or {@code random} is {@code null}
+   */
+  public Simulation(int numOfDecks, int outcomes, ForkJoinPool pool, SplittableGenerator random) {
+    if (numOfDecks < 1 || outcomes < 1) {
+      throw new IllegalArgumentException("A simulation needs at least one deck and one outcome.");
+    }
+    this.numOfDecks = numOfDecks;
+    this.outcomes = outcomes;
+    this.pool = Objects.requireNonNull(pool, "You must pass a non null pool.");
+    this.random = Objects.requireNonNull(random, "You must pass a non null generator.");
+  }
+
+  /**
+   * Runs the given number of trials and counts their outcomes.
+   *
+   * @param trials the number of trials to run
+   * @param trial  the trial to run
+   * @return the number of times each outcome occurred
+   * @throws IllegalArgumentException if {@code trials} is negative, or a trial returns an outcome
+   *                                  out of range
+   * @throws NullPointerException if {@code trial} is {@code null}
+   */
+  public SimulationResult run(long trials, Trial trial) {
+    Objects.requireNonNull(trial, "You must pass a non null trial.");
+    if (trials < 0) {
+      throw new IllegalArgumentException("The number of trials must not be negative: " + trials);
+    }
+    SplittableGenerator root;
+    synchronized (random) {
+      root = random.split();
+    }
+    return new SimulationResult(trials, pool.invoke(new TrialTask(trial, trials, root)));
+  }
+
+  /**
+   * Runs a range of trials, splitting it in half until it is small enough to run directly.
+   */
+  private final class TrialTask extends RecursiveTask<long[]> {
+
+    /**
+     * The version of the serialized form, which tasks inherit from {@link
+     * java.util.concurrent.ForkJoinTask} but never use.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The trial to run.
+     */
+    private final Trial trial;
+
+    /**
+     * The number of trials in this task.
+     */
+    private final long trials;
+
+    /**
+     * The generator owned by this task.
+     */
+    private final SplittableGenerator random;
+
+    /**
+     * Constructor.
+     *
+     * @param trial  the trial to run
+     * @param trials the number of trials in this task
+     * @param random the generator owned by this task
+     */
+    TrialTask(Trial trial, long trials, SplittableGenerator random) {
+      this.trial = trial;
+      this.trials = trials;
+      this.random = random;
+    }
+
+    @Override
+    protected long[] compute() {
+      if (trials <= LEAF_TRIALS) {
+        return runTrials();
+      }
+      long half = trials / 2;
+      TrialTask left = new TrialTask(trial, half, random.split());
+      TrialTask right = new TrialTask(trial, trials - half, random);
+      left.fork();
+      long[] counts = right.compute();
+      long[] leftCounts = left.join();
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] += leftCounts[i];
+      }
+      return counts;
+    }
+
+    /**
+     * Runs every trial of this task on the current thread.
+     *
+     * @return the number of times each outcome occurred
+     */
+    private long[] runTrials() {
+      long[] counts = new long[outcomes];
+      Deck deck = Deck.lazy(numOfDecks, random);
+      for (long i = 0; i < trials; i++) {
+        deck.reset();
+        deck.shuffle();
+        int outcome = trial.run(deck);
+        if (outcome < 0 || outcome >= outcomes) {
+          throw new IllegalArgumentException("A trial returned " + outcome + ", outside [0, "
+              + outcomes + ").");
+        }
+        counts[outcome]++;
+      }
+      return counts;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.frijolie.cards;
+
+import java.util.Arrays;
+
+/**
+ * The outcome counts of a {@link Simulation}. Instances are immutable.
+ *
+ * @see Simulation
+ */
+public final class SimulationResult {
+
+  /**
+   * The number of trials which were run.
+   */
+  private final long trials;
+
+  /**
+   * The number of times each outcome occurred.
+   */
+  private final long[] counts;
+
+  /**
+   * Constructor.
+   *
+   * @param trials the number of trials which were run
+   * @param counts the number of times each outcome occurred. The array is not copied.
+   */
+  SimulationResult(long trials, long[] counts) {
+    this.trials = trials;
+    this.counts = counts;
+  }
+
+  /**
+   * Returns the number of trials which were run.
+   *
+   * @return the number of trials
+   */
+  public long getTrials() {
+    return trials;
+  }
+
+  /**
+   * Returns the number of distinct outcomes.
+   *
+   * @return the number of outcomes
+   */
+  public int getOutcomes() {
+    return counts.length;
+  }
+
+  /**
+   * Returns the number of times an outcome occurred.
+   *
+   * @param outcome the outcome, from 0 (inclusive) to {@link #getOutcomes()} (exclusive)
+   * @return the number of trials with that outcome
+   */
+  public long getCount(int outcome) {
+    return counts[outcome];
+  }
+
+  /**
+   * Returns the fraction of trials with an outcome.
+   *
+   * @param outcome the outcome, from 0 (inclusive) to {@link #getOutcomes()} (exclusive)
+   * @return the frequency of that outcome, from 0 to 1, or 0 if no trials were run
+   */
+  public double getFrequency(int outcome) {
+    return trials == 0 ? 0 : (double) counts[outcome] / trials;
+  }
+
+  /**
+   * Returns the number of times each outcome occurred, indexed by outcome.
+   *
+   * @return a copy of the counts
+   */
+  public long[] getCounts() {
+    return counts.clone();
+  }
+
+  @Override
+  public String toString() {
+    return "SimulationResult{trials=" + trials + ", counts=" + Arrays.toString(counts) + "}";
+  }
+}
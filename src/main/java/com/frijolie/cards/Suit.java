@@ -1,5 +1,8 @@
 package com.frijolie.cards;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A enumeration of all possible {@link PlayingCard} suits. Each {@code Suit} can be represented as
  * a word or symbol. Each suit will also have a {@link CardColor}.
@@ -26,6 +29,50 @@ public enum Suit {
   SPADES("Spades", '♠', CardColor.BLACK),
   HEARTS("Hearts", '♥', CardColor.RED);
 
+  /**
+   * The number of suits.
+   */
+  public static final int COUNT = 4;
+
+  /**
+   * Cached copy of {@link #values()}, indexed by ordinal, so lookups do not clone the array.
+   */
+  private static final Suit[] VALUES = values();
+
+  /**
+   * The first of the Unicode card suit symbols, U+2660 ♠.
+   */
+  private static final char FIRST_SYMBOL = '♠';
+
+  /**
+   * The ordinal of the suit of each Unicode suit symbol from U+2660 to U+2667, black and white.
+   */
+  private static final byte[] BY_SYMBOL = new byte[8];
+
+  /**
+   * The suits of each color, indexed by {@link CardColor} ordinal.
+   */
+  private static final List<List<Suit>> BY_COLOR;
+
+  static {
+    String white = "♧♢♤♡";
+    for (Suit suit : VALUES) {
+      BY_SYMBOL[suit.symbol - FIRST_SYMBOL] = (byte) suit.ordinal();
+      BY_SYMBOL[white.charAt(suit.ordinal()) - FIRST_SYMBOL] = (byte) suit.ordinal();
+    }
+    List<List<Suit>> byColor = new ArrayList<>();
+    for (CardColor color : CardColor.values()) {
+      List<Suit> suits = new ArrayList<>();
+      for (Suit suit : VALUES) {
+        if (suit.color == color) {
+          suits.add(suit);
+        }
+      }
+      byColor.add(List.copyOf(suits));
+    }
+    BY_COLOR = List.copyOf(byColor);
+  }
+
   /**
    * {@code Suit} in the form of a word. For example, "Diamonds"
    */
@@ -85,4 +132,56 @@ public enum Suit {
   public CardColor getColor() {
     return color;
   }
+
+  /**
+   * Returns the {@code Suit} with the given ordinal, without cloning {@link #values()}.
+   *
+   * @param ordinal the ordinal, from 0 (CLUBS) to 3 (HEARTS)
+   * @return the suit with that ordinal
+   * @throws IllegalArgumentException if the ordinal is out of range
+   */
+  public static Suit fromOrdinal(int ordinal) {
+    if (ordinal < 0 || ordinal >= COUNT) {
+      throw new IllegalArgumentException("There is no suit with ordinal " + ordinal);
+    }
+    return VALUES[ordinal];
+  }
+
+  /**
+   * Returns the {@code Suit} with the given symbol. The white symbols, such as ♤, are accepted as
+   * well as the black ones returned by {@link #getSymbol()}.
+   *
+   * @param symbol the unicode symbol
+   * @return the suit with that symbol
+   * @throws IllegalArgumentException if no suit has that symbol
+   */
+  public static Suit fromSymbol(char symbol) {
+    int ordinal = ordinalOf(symbol);
+    if (ordinal < 0) {
+      throw new IllegalArgumentException("There is no suit with symbol '" + symbol + "'");
+    }
+    return VALUES[ordinal];
+  }
+
+  /**
+   * Returns the suits of the given color. For example, DIAMONDS and HEARTS for {@code RED}.
+   *
+   * @param color the color
+   * @return an unmodifiable list of the suits of that color, in declaration order
+   * @throws NullPointerException if the argument is {@code null}
+   */
+  public static List<Suit> withColor(CardColor color) {
+    return BY_COLOR.get(color.ordinal());
+  }
+
+  /**
+   * Returns the ordinal of the suit with the given symbol, black or white.
+   *
+   * @param symbol the symbol
+   * @return the suit ordinal, or -1 if no suit has that symbol
+   */
+  static int ordinalOf(char symbol) {
+    int index = symbol - FIRST_SYMBOL;
+    return index >= 0 && index < BY_SYMBOL.length ? BY_SYMBOL[index] : -1;
+  }
 }
@@ -1,5 +1,9 @@
 module com.frijolie.cards {
+  requires jdk.jfr;
+
   exports com.frijolie.cards;
 
   opens com.frijolie.cards;
-}
\ No newline at end of file
+
+  uses com.frijolie.cards.DeckMetrics;
+}
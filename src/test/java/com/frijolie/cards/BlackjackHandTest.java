@@ -0,0 +1,80 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BlackjackHandTest {
+
+  private BlackjackHand hand;
+
+  @BeforeEach
+  void setUp() {
+    hand = new BlackjackHand();
+  }
+
+  @AfterEach
+  void tearDown() {
+    hand = null;
+  }
+
+  @Test
+  void testAdd_AceAndKingShouldBeBlackjack() {
+    hand.add(PlayingCard.of(Rank.ACE, Suit.SPADES));
+    hand.add(Rank.KING);
+    String message = "Ace and King should total 21. Instead: " + hand.getTotal();
+    assertEquals(21, hand.getTotal(), message);
+    assertTrue(hand.isBlackjack());
+    assertTrue(hand.isSoft());
+    assertEquals("soft 21", hand.toString());
+  }
+
+  @Test
+  void testAdd_SoftHandShouldTurnHardInsteadOfBusting() {
+    hand.add(Rank.ACE);
+    hand.add(Rank.SIX);
+    assertEquals(17, hand.getTotal());
+    assertTrue(hand.isSoft());
+    hand.add(IntCard.encode(Rank.NINE, Suit.CLUBS));
+    String message = "A, 6, 9 should be a hard 16. Instead: " + hand;
+    assertEquals(16, hand.getTotal(), message);
+    assertFalse(hand.isSoft());
+    assertFalse(hand.isBust());
+  }
+
+  @Test
+  void testIsBlackjack_ThreeCardsTotalling21ShouldNotBeABlackjack() {
+    hand.add(Rank.ACE);
+    hand.add(Rank.FIVE);
+    hand.add(Rank.FIVE);
+    assertEquals(21, hand.getTotal());
+    assertTrue(hand.isSoft());
+    assertFalse(hand.isBlackjack(), "Three cards totalling 21 is not a blackjack");
+  }
+
+  @Test
+  void testAdd_TwoAcesShouldTotalSoft12AndThenBust() {
+    hand.add(Rank.ACE);
+    hand.add(Rank.ACE);
+    assertEquals(12, hand.getTotal());
+    assertEquals(2, hand.getAceCount());
+    hand.add(Rank.QUEEN);
+    hand.add(Rank.KING);
+    assertEquals(22, hand.getHardTotal());
+    assertTrue(hand.isBust());
+    assertEquals(4, hand.size());
+  }
+
+  @Test
+  void testClear_ShouldEmptyTheHand() {
+    hand.add(Rank.TEN);
+    hand.clear();
+    assertEquals(0, hand.getTotal());
+    assertEquals(0, hand.size());
+    assertEquals(0, hand.getAceCount());
+  }
+}
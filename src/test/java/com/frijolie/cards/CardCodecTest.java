@@ -0,0 +1,104 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class CardCodecTest {
+
+  @Test
+  void testEncode_SixDeckShoeShouldTakeOneBytePerCardPlusHeader() {
+    List<Card> cards = new Deck(6, new SplittableRandom(1)).getDeck();
+    ByteBuffer buffer = ByteBuffer.allocate(1024);
+    CardCodec.encode(buffer, cards);
+    assertEquals(1 + 2 + 312, buffer.position(), "A 312 card shoe should take 315 bytes");
+    buffer.flip();
+    assertEquals(cards, CardCodec.decodeDeck(buffer).toCards());
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test
+  void testDecodeDeck_SeededRecordShouldRecreateTheSameShuffle() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    CardCodec.encodeSeeded(buffer, 8, 42L);
+    assertTrue(buffer.position() <= 10, "A seeded shoe should take at most 10 bytes");
+    buffer.flip();
+    List<Card> expected = new Deck(8, new SplittableRandom(42L)).getDeck();
+    assertEquals(expected, CardCodec.decodeDeck(buffer).toCards());
+  }
+
+  @Test
+  void testDecodeShuffle_VersionedRecordShouldRecordTheAlgorithm() throws IOException {
+    SeededShuffle shuffle = new SeededShuffle(-3L, 6, ShuffleAlgorithm.FEISTEL);
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    CardCodec.encode(buffer, shuffle);
+    assertTrue(buffer.position() <= 11, "A versioned shoe should take at most 11 bytes");
+    buffer.flip();
+    assertEquals(shuffle, CardCodec.decodeShuffle(buffer.duplicate()));
+    assertEquals(shuffle.toDeck().getDeck(), CardCodec.decodeDeck(buffer).toCards());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    CardCodec.writeSeeded(out, 2, 5L);
+    CardCodec.write(out, shuffle);
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+    assertEquals(new SeededShuffle(5L, 2, ShuffleAlgorithm.FISHER_YATES),
+        CardCodec.readShuffle(in));
+    assertEquals(shuffle, CardCodec.readShuffle(in));
+  }
+
+  @Test
+  void testDecodeSet_ShouldRoundTripTheMask() {
+    CardSet hand = new CardSet(List.of(PlayingCard.of(Rank.ACE, Suit.SPADES),
+        PlayingCard.of(Rank.KING, Suit.HEARTS)));
+    ByteBuffer buffer = ByteBuffer.allocate(9);
+    CardCodec.encode(buffer, hand);
+    buffer.flip();
+    assertEquals(hand, CardCodec.decodeSet(buffer));
+  }
+
+  @Test
+  void testRead_StreamShouldHoldRecordsBackToBack() throws IOException {
+    List<Card> cards = new Deck(3, new SplittableRandom(7)).getDeck();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    CardCodec.write(out, cards);
+    CardCodec.writeSeeded(out, 2, -5L);
+    CardCodec.write(out, new CardSet(CardSet.ALL));
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+    assertEquals(cards, CardCodec.readDeck(in).toCards());
+    assertEquals(new Deck(2, new SplittableRandom(-5L)).getDeck(),
+        CardCodec.readDeck(in).toCards());
+    assertEquals(52, CardCodec.readSet(in).size());
+    assertEquals(-1, in.read(), "Every byte should have been consumed");
+  }
+
+  @Test
+  void testRead_MalformedRecordsShouldBeRejected() {
+    ByteBuffer wrongKind = ByteBuffer.wrap(new byte[] {3, 0, 0, 0, 0, 0, 0, 0, 0});
+    assertThrows(IllegalArgumentException.class, () -> CardCodec.decodeDeck(wrongKind));
+    ByteBuffer badCode = ByteBuffer.wrap(new byte[] {1, 1, 52});
+    assertThrows(IllegalArgumentException.class, () -> CardCodec.decodeDeck(badCode));
+    ByteArrayInputStream truncated = new ByteArrayInputStream(new byte[] {1, 3, 0, 1});
+    assertThrows(EOFException.class, () -> CardCodec.readDeck(truncated));
+    ByteBuffer hugeLength = ByteBuffer.wrap(
+        new byte[] {1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0});
+    assertThrows(BufferUnderflowException.class, () -> CardCodec.decodeDeck(hugeLength));
+    ByteArrayInputStream oversized = new ByteArrayInputStream(
+        new byte[] {1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+    assertThrows(IllegalArgumentException.class, () -> CardCodec.readDeck(oversized));
+    ByteArrayInputStream unknownKind = new ByteArrayInputStream(new byte[] {9, 1, 0});
+    assertThrows(IllegalArgumentException.class, () -> CardCodec.readDeck(unknownKind));
+    assertThrows(IllegalArgumentException.class,
+        () -> CardCodec.encodeSeeded(ByteBuffer.allocate(16), 0, 1L));
+  }
+}
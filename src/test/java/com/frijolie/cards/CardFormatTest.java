@@ -0,0 +1,58 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CardFormatTest {
+
+  @Test
+  void testParse_EveryCardShouldRoundTripInBothForms() {
+    for (int code = 0; code < PlayingCard.COUNT; code++) {
+      PlayingCard card = PlayingCard.of(code);
+      assertSame(card, CardFormat.parse(card.toString()), "Symbol form of " + card);
+      String ascii = CardFormat.appendAscii(new StringBuilder(), card).toString();
+      assertSame(card, CardFormat.parse(ascii), "ASCII form " + ascii);
+    }
+  }
+
+  @Test
+  void testParse_AlternativeSpellingsShouldBeAccepted() {
+    PlayingCard tenOfDiamonds = PlayingCard.of(Rank.TEN, Suit.DIAMONDS);
+    assertSame(tenOfDiamonds, CardFormat.parse("Td"));
+    assertSame(tenOfDiamonds, CardFormat.parse("tD"));
+    assertSame(tenOfDiamonds, CardFormat.parse("T♢"));
+    assertSame(PlayingCard.of(Rank.QUEEN, Suit.CLUBS), CardFormat.parse("q♧"));
+  }
+
+  @Test
+  void testParse_InvalidTextShouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> CardFormat.parse("Ax"));
+    assertThrows(IllegalArgumentException.class, () -> CardFormat.parse("1s"));
+    assertThrows(IllegalArgumentException.class, () -> CardFormat.parse("As "));
+    assertThrows(IllegalArgumentException.class, () -> CardFormat.parseSet("As Kh Q"));
+    assertThrows(IllegalArgumentException.class, () -> CardFormat.parseSet("As As"));
+  }
+
+  @Test
+  void testParseAll_ShouldReadWhatAppendAllWrites() {
+    List<Card> hand = new Deck(1, true).getDeck().subList(0, 7);
+    String text = CardFormat.appendAll(new StringBuilder(), hand).toString();
+    assertEquals(7 * 3 - 1, text.length(), "Seven cards separated by spaces");
+    List<Card> parsed = new ArrayList<>();
+    assertEquals(7, CardFormat.parseAll(text, parsed));
+    assertEquals(hand, parsed);
+  }
+
+  @Test
+  void testParseSet_ShouldReadCardSetToString() {
+    CardSet hand = CardFormat.parseSet("AsKhAh");
+    assertEquals(3, hand.size());
+    assertEquals(hand, CardFormat.parseSet(hand.toString()));
+  }
+}
@@ -0,0 +1,108 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CardSetTest {
+
+  private CardSet hand;
+
+  @BeforeEach
+  void setUp() {
+    hand = new CardSet();
+    hand.add(PlayingCard.of(Rank.ACE, Suit.HEARTS));
+    hand.add(PlayingCard.of(Rank.KING, Suit.HEARTS));
+    hand.add(PlayingCard.of(Rank.ACE, Suit.SPADES));
+  }
+
+  @AfterEach
+  void tearDown() {
+    hand = null;
+  }
+
+  @Test
+  void testAdd_DuplicateCardShouldReturnFalse() {
+    String message = "Adding a card already in the set should return false";
+    assertFalse(hand.add(new PlayingCard(Rank.ACE, Suit.HEARTS)), message);
+    assertEquals(3, hand.size());
+  }
+
+  @Test
+  void testRemove_ShouldOnlyRemovePresentCards() {
+    assertTrue(hand.remove(PlayingCard.of(Rank.ACE, Suit.SPADES)));
+    assertFalse(hand.remove(PlayingCard.of(Rank.ACE, Suit.SPADES)));
+    assertFalse(hand.contains(PlayingCard.of(Rank.ACE, Suit.SPADES)));
+    assertEquals(2, hand.size());
+  }
+
+  @Test
+  void testCount_ShouldCountBySuitAndRank() {
+    assertEquals(2, hand.count(Suit.HEARTS));
+    assertEquals(0, hand.count(Suit.CLUBS));
+    assertEquals(2, hand.count(Rank.ACE));
+    assertEquals(4, Long.bitCount(CardSet.rankMask(Rank.ACE)));
+    assertEquals(13, Long.bitCount(CardSet.suitMask(Suit.CLUBS)));
+  }
+
+  @Test
+  void testRankBits_HeartsShouldHaveAceAndKingBitsSet() {
+    int expected = (1 << Rank.ACE.ordinal()) | (1 << Rank.KING.ordinal());
+    assertEquals(expected, hand.rankBits(Suit.HEARTS));
+    assertEquals(1 << Rank.ACE.ordinal(), hand.rankBits(Suit.SPADES));
+  }
+
+  @Test
+  void testSetOperations_ShouldCombineMasks() {
+    CardSet hearts = new CardSet(CardSet.suitMask(Suit.HEARTS));
+    assertEquals(2, hand.intersection(hearts).size());
+    assertEquals(14, hand.union(hearts).size());
+    assertEquals(49, hand.complement().size());
+    CardSet copy = new CardSet(hand.toLong());
+    copy.removeAll(hearts);
+    assertEquals(1, copy.size());
+    copy.addAll(hearts);
+    copy.retainAll(hand);
+    assertEquals(3, copy.size());
+    copy.clear();
+    assertTrue(copy.isEmpty());
+  }
+
+  @Test
+  void testIterator_ShouldReturnCardsInCodeOrder() {
+    List<Card> cards = new ArrayList<>();
+    hand.forEach(cards::add);
+    assertEquals(new CardSet(cards), hand);
+    assertEquals(PlayingCard.of(Rank.ACE, Suit.SPADES), cards.get(0));
+    assertEquals("[A♠, K♥, A♥]", hand.toString());
+    assertEquals(-1, hand.nextCode(52));
+  }
+
+  @Test
+  void testConstructor_BitsAboveCardRangeShouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new CardSet(1L << 52));
+  }
+
+  @Test
+  void testAddRemoveContains_CodeOutOfRangeShouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> hand.add(60));
+    assertThrows(IllegalArgumentException.class, () -> hand.add(-1));
+    assertThrows(IllegalArgumentException.class, () -> hand.remove(52));
+    assertThrows(IllegalArgumentException.class, () -> hand.contains(64));
+    assertEquals(3, hand.size(), "A rejected code should not change the set");
+  }
+
+  @Test
+  void testNextCode_NegativeStartShouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> hand.nextCode(-1));
+    assertThrows(IllegalArgumentException.class, () -> hand.nextCode(-60));
+  }
+}
@@ -0,0 +1,92 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDeckTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    executor = null;
+  }
+
+  @Test
+  void testDraw_TablesSharingAShoeShouldDealEveryCardExactlyOnce() throws Exception {
+    ConcurrentDeck deck = new ConcurrentDeck(8, new SplittableRandom(3));
+    AtomicIntegerArray seen = new AtomicIntegerArray(PlayingCard.COUNT);
+    List<Future<?>> tables = new ArrayList<>();
+    for (int t = 0; t < 16; t++) {
+      boolean batches = t % 2 == 0;
+      tables.add(executor.submit(() -> {
+        try {
+          while (true) {
+            if (batches) {
+              ConcurrentDeck.Batch batch = deck.reserve(5);
+              while (batch.remaining() > 0) {
+                seen.incrementAndGet(IntCard.encode(batch.draw()));
+              }
+            } else {
+              seen.incrementAndGet(IntCard.encode(deck.draw()));
+            }
+          }
+        } catch (NoSuchElementException e) {
+          return null;
+        }
+      }));
+    }
+    for (Future<?> table : tables) {
+      table.get();
+    }
+    while (deck.remaining() > 0) {
+      seen.incrementAndGet(IntCard.encode(deck.draw()));
+    }
+    for (int code = 0; code < PlayingCard.COUNT; code++) {
+      assertEquals(8, seen.get(code), "Every card should be dealt once per deck: " + code);
+    }
+  }
+
+  @Test
+  void testReserve_ShouldBeAllOrNothing() {
+    ConcurrentDeck deck = new ConcurrentDeck(1);
+    ConcurrentDeck.Batch batch = deck.reserve(50);
+    assertEquals(50, batch.remaining());
+    assertEquals(2, deck.remaining());
+    assertThrows(NoSuchElementException.class, () -> deck.reserve(3));
+    assertEquals(2, deck.remaining(), "A failed reservation should not claim any cards");
+    assertThrows(IllegalArgumentException.class, () -> deck.reserve(-1));
+    deck.draw();
+    deck.draw();
+    assertThrows(NoSuchElementException.class, deck::draw);
+    assertEquals(0, deck.remaining());
+  }
+
+  @Test
+  void testConstructor_SameSeedShouldDealSameOrderAsDeck() {
+    ConcurrentDeck concurrent = new ConcurrentDeck(2, new SplittableRandom(9));
+    Deck deck = new Deck(2, new SplittableRandom(9));
+    while (deck.remaining() > 0) {
+      assertEquals(deck.draw(), concurrent.draw());
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ContinuousShufflerTest {
+
+  private ContinuousShuffler shuffler;
+
+  @BeforeEach
+  void setUp() {
+    shuffler = new ContinuousShuffler(2, new SplittableRandom(11));
+  }
+
+  @AfterEach
+  void tearDown() {
+    shuffler = null;
+  }
+
+  @Test
+  void testConstructor_TwoDecksShouldHold104Cards() {
+    String message = "2 decks should hold 104 cards. Instead: " + shuffler.remaining();
+    assertEquals(104, shuffler.remaining(), message);
+    assertEquals(104, shuffler.capacity());
+    assertThrows(IllegalArgumentException.class, () -> new ContinuousShuffler(0));
+  }
+
+  @Test
+  void testDraw_DrawingEveryCardShouldReturnEachCodeTwice() {
+    int[] counts = new int[IntCard.COUNT];
+    while (shuffler.remaining() > 0) {
+      counts[shuffler.drawCode()]++;
+    }
+    for (int count : counts) {
+      assertEquals(2, count, "Every card should be drawn exactly twice");
+    }
+    assertThrows(NoSuchElementException.class, () -> shuffler.draw());
+  }
+
+  @Test
+  void testDiscard_ReturnedCardsShouldBeDrawnAgain() {
+    Card[] hand = {shuffler.draw(), shuffler.draw(), shuffler.draw()};
+    assertEquals(101, shuffler.remaining());
+    shuffler.discard(hand, 2);
+    shuffler.discard(hand[2]);
+    assertEquals(104, shuffler.remaining(), "Discarded cards should return to the pool");
+    assertThrows(IllegalStateException.class, () -> shuffler.discard(hand[0]));
+    assertThrows(IllegalStateException.class, () -> shuffler.discard(hand, 1));
+  }
+
+  @Test
+  void testDiscard_CodeOutOfRangeShouldThrowIllegalArgumentException() {
+    shuffler.drawCode();
+    assertThrows(IllegalArgumentException.class, () -> shuffler.discard(52));
+    assertThrows(IllegalArgumentException.class, () -> shuffler.discard(-1));
+    assertEquals(103, shuffler.remaining(), "A rejected code should not enter the pool");
+  }
+
+  @Test
+  void testDiscard_InvalidBatchShouldLeaveThePoolUnchanged() {
+    Card[] hand = {shuffler.draw(), shuffler.draw(), null};
+    shuffler.draw();
+    assertThrows(NullPointerException.class, () -> shuffler.discard(hand, 3));
+    assertThrows(IllegalArgumentException.class, () -> shuffler.discard(hand, 4));
+    assertThrows(IllegalArgumentException.class, () -> shuffler.discard(hand, -1));
+    assertEquals(101, shuffler.remaining(), "A rejected batch should not enter the pool");
+    shuffler.discard(hand, 2);
+    assertEquals(103, shuffler.remaining());
+  }
+}
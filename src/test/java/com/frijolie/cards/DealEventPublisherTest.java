@@ -0,0 +1,132 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DealEventPublisherTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    executor = null;
+  }
+
+  /**
+   * Collects every event it is sent, requesting batches one at a time.
+   */
+  private static final class Collector implements Flow.Subscriber<long[]> {
+    private final List<Long> events = new ArrayList<>();
+    private final CountDownLatch done = new CountDownLatch(1);
+    private Flow.Subscription subscription;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      subscription.request(1);
+    }
+
+    @Override
+    public void onNext(long[] batch) {
+      for (long event : batch) {
+        events.add(event);
+      }
+      subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      done.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+      done.countDown();
+    }
+  }
+
+  @Test
+  void testEvent_ShouldRoundTripTypeAndPayload() {
+    long event = DealEventPublisher.event(DealEventPublisher.EventType.RESET, 312);
+    assertEquals(DealEventPublisher.EventType.RESET, DealEventPublisher.typeOf(event));
+    assertEquals(312, DealEventPublisher.payloadOf(event));
+  }
+
+  @Test
+  void testSubscribe_ShouldReceiveEveryEventInOrder() throws InterruptedException {
+    DealEventPublisher publisher = new DealEventPublisher(executor, 16, 4, false);
+    Collector collector = new Collector();
+    publisher.subscribe(collector);
+    Deck deck = new Deck(2, new SplittableRandom(1));
+    deck.addDealListener(publisher);
+    List<Card> dealt = new ArrayList<>();
+    deck.burn();
+    while (deck.remaining() > 0) {
+      dealt.add(deck.draw());
+    }
+    deck.reset();
+    deck.shuffle();
+    publisher.close();
+    assertTrue(collector.done.await(5, TimeUnit.SECONDS), "The subscriber should complete");
+
+    assertEquals(1 + 103 + 2, collector.events.size());
+    assertEquals(DealEventPublisher.EventType.BURNED,
+        DealEventPublisher.typeOf(collector.events.get(0)));
+    for (int i = 0; i < dealt.size(); i++) {
+      long event = collector.events.get(i + 1);
+      assertEquals(DealEventPublisher.EventType.DRAWN, DealEventPublisher.typeOf(event));
+      assertEquals(IntCard.encode(dealt.get(i)), DealEventPublisher.payloadOf(event));
+    }
+    long shuffled = collector.events.get(105);
+    assertEquals(DealEventPublisher.EventType.SHUFFLED, DealEventPublisher.typeOf(shuffled));
+    assertEquals(104, DealEventPublisher.payloadOf(shuffled));
+  }
+
+  @Test
+  void testDropWhenFull_StalledSubscriberShouldNotBlockTheDealer() {
+    DealEventPublisher publisher = new DealEventPublisher(executor, 4, 1, true);
+    publisher.subscribe(new Flow.Subscriber<>() {
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+      }
+
+      @Override
+      public void onNext(long[] item) {
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+      }
+
+      @Override
+      public void onComplete() {
+      }
+    });
+    ContinuousShuffler shuffler = new ContinuousShuffler(1, new SplittableRandom(2));
+    shuffler.addDealListener(publisher);
+    for (int i = 0; i < 1000; i++) {
+      shuffler.discard(shuffler.draw());
+    }
+    publisher.close();
+    assertTrue(publisher.getDropped() > 1900, "Most events should have been dropped");
+  }
+}
@@ -0,0 +1,76 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DeckMetricsTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void testInstalled_NoProviderShouldFallBackToNoop() {
+    assertSame(DeckMetrics.NOOP, DeckMetrics.installed(), "No metrics service is installed");
+    Shoe shoe = new Shoe(2, 0.5, new SplittableRandom(1));
+    shoe.burn();
+    shoe.draw();
+    shoe.reshuffle();
+    assertEquals(104, shoe.remaining(), "Dealing should work without metrics");
+  }
+
+  @Test
+  void testShuffled_HistogramShouldBucketByPowerOfTwo() {
+    DeckStatistics statistics = new DeckStatistics();
+    statistics.shuffled(52, 0);
+    statistics.shuffled(52, 1000);
+    statistics.shuffled(52, 1023);
+    statistics.shuffled(52, 1024);
+    long[] histogram = statistics.getShuffleHistogram();
+    assertEquals(1, histogram[0]);
+    assertEquals(2, histogram[10], "1000 and 1023 nanoseconds are below 2^10");
+    assertEquals(1, histogram[11]);
+    assertEquals(4, Arrays.stream(histogram).sum());
+    assertEquals(3047, statistics.getShuffleNanos());
+    statistics.deckBuilt(312, 500);
+    statistics.cardsDealt(5);
+    assertEquals(1, statistics.getDecksBuilt());
+    assertEquals(500, statistics.getBuildNanos());
+    assertEquals(5, statistics.getCardsDealt());
+  }
+
+  @Test
+  void testShuffle_RecordingShouldCaptureJfrEvents() throws IOException {
+    Path file = directory.resolve("cards.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("com.frijolie.cards.DeckBuild");
+      recording.enable("com.frijolie.cards.Shuffle");
+      recording.start();
+      Deck deck = new Deck(6, true);
+      deck.shuffle();
+      Deck.lazy(2, new SplittableRandom(3)).shuffle();
+      recording.stop();
+      recording.dump(file);
+    }
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+    assertTrue(events.stream().anyMatch(e -> e.getEventType().getName()
+        .equals("com.frijolie.cards.DeckBuild") && e.getInt("cards") == 312));
+    assertTrue(events.stream().anyMatch(e -> e.getEventType().getName()
+        .equals("com.frijolie.cards.Shuffle") && e.getInt("cards") == 312));
+    assertTrue(events.stream().anyMatch(e -> e.getEventType().getName()
+        .equals("com.frijolie.cards.Shuffle") && e.getInt("cards") == 0),
+        "A lazy shuffle should not report any cards shuffled");
+  }
+}
@@ -0,0 +1,70 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class DeckSpecTest {
+
+  @Test
+  void testSize_VariantDecksShouldHoldTheRightNumberOfCards() {
+    assertEquals(52, DeckSpec.STANDARD.size());
+    assertEquals(32, DeckSpec.PIQUET.size());
+    assertEquals(24, DeckSpec.EUCHRE.size());
+    assertEquals(48, DeckSpec.PINOCHLE.size());
+    assertEquals(48, DeckSpec.SPANISH_21.size());
+    assertEquals(24, DeckSpec.PINOCHLE.getCards().size(), "Pinochle has 24 distinct cards");
+  }
+
+  @Test
+  void testContains_SpanishDeckShouldHaveNoTens() {
+    Deck deck = new Deck(DeckSpec.SPANISH_21, 1, true);
+    for (Card card : deck.getDeck()) {
+      assertFalse(card.getRank() == Rank.TEN, "A Spanish 21 deck should not hold " + card);
+    }
+    assertFalse(DeckSpec.SPANISH_21.contains(PlayingCard.of(Rank.TEN, Suit.HEARTS)));
+    assertTrue(DeckSpec.SPANISH_21.contains(PlayingCard.of(Rank.KING, Suit.HEARTS)));
+  }
+
+  @Test
+  void testConstructor_PinochleShouldHoldTwoOfEachCardPerDeck() {
+    Deck deck = new Deck(DeckSpec.PINOCHLE, 2, false);
+    assertEquals(96, deck.size());
+    int[] counts = new int[PlayingCard.COUNT];
+    for (Card card : deck.getDeck()) {
+      counts[IntCard.encode(card)]++;
+    }
+    for (Card card : DeckSpec.PINOCHLE.getCards()) {
+      assertEquals(4, counts[IntCard.encode(card)], "Two decks of two copies of " + card);
+    }
+  }
+
+  @Test
+  void testConstructor_StandardSpecShouldMatchTheDefaultDeck() {
+    List<Card> expected = new Deck(2, new SplittableRandom(4)).getDeck();
+    assertEquals(expected, new Deck(DeckSpec.STANDARD, 2, new SplittableRandom(4)).getDeck());
+  }
+
+  @Test
+  void testShoe_SpanishShoeShouldReshuffleToTheSameComposition() {
+    Shoe shoe = new Shoe(DeckSpec.SPANISH_21, 6, 0.75, new SplittableRandom(2), null);
+    assertEquals(288, shoe.size());
+    shoe.reshuffle();
+    assertEquals(288, shoe.remaining());
+  }
+
+  @Test
+  void testConstructor_EmptyCompositionShouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new DeckSpec("None",
+        EnumSet.noneOf(Rank.class), EnumSet.allOf(Suit.class), 1));
+    assertThrows(IllegalArgumentException.class, () -> new DeckSpec("None",
+        EnumSet.allOf(Rank.class), EnumSet.allOf(Suit.class), 0));
+  }
+}
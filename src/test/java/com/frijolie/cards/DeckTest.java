@@ -1,6 +1,17 @@
 package com.frijolie.cards;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,4 +45,126 @@ class DeckTest {
         + twoDecks.getDeck().size();
     assertEquals(104, twoDecks.getDeck().size(), message);
   }
-}
\ No newline at end of file
+
+  @Test
+  void testOverloadedConstructor_DecksShouldShareCanonicalCards() {
+    List<Card> cards = new Deck(2, false).getDeck();
+    for (int i = 0; i < cards.size(); i++) {
+      Card card = cards.get(i);
+      String message = "Card " + card + " should be the canonical instance";
+      assertSame(PlayingCard.of(card.getRank(), card.getSuit()), card, message);
+    }
+  }
+
+  @Test
+  void testRandomConstructor_SameSeedShouldProduceSameOrder() {
+    List<Card> first = new Deck(6, new SplittableRandom(42)).getDeck();
+    List<Card> second = new Deck(6, new SplittableRandom(42)).getDeck();
+    String message = "Decks shuffled from the same seed should be identical";
+    assertEquals(first, second, message);
+    assertNotEquals(new Deck(6, false).getDeck(), first, "A seeded deck should be shuffled");
+  }
+
+  @Test
+  void testShuffle_ShouldKeepEveryCard() {
+    deck.shuffle(RandomGenerator.of("Xoroshiro128PlusPlus"));
+    assertEquals(52, new HashSet<>(deck.getDeck()).size(), "Shuffling should not lose any cards");
+    deck.shuffle();
+    assertEquals(52, new HashSet<>(deck.getDeck()).size(), "Shuffling should not lose any cards");
+  }
+
+  @Test
+  void testShuffle_PassingNullArgumentShouldThrowNullPointerException() {
+    assertThrows(NullPointerException.class, () -> deck.shuffle(null));
+    assertThrows(NullPointerException.class, () -> new Deck(1, null));
+  }
+
+  @Test
+  void testDraw_ShouldDealInOrderWithoutRemovingFromTheBackingDeck() {
+    List<Card> expected = deck.getDeck();
+    assertSame(expected.get(0), deck.peek());
+    assertSame(expected.get(0), deck.draw());
+    deck.burn();
+    Card[] buffer = new Card[5];
+    deck.draw(buffer, 3);
+    assertSame(expected.get(2), buffer[0]);
+    assertSame(expected.get(4), buffer[2]);
+    String message = "5 cards have been dealt, 47 should remain. Instead: " + deck.remaining();
+    assertEquals(47, deck.remaining(), message);
+    assertEquals(expected.subList(5, 52), deck.getDeck());
+    assertEquals(52, deck.size());
+  }
+
+  @Test
+  void testDraw_TooManyCardsShouldThrowAndDealNothing() {
+    Card[] buffer = new Card[60];
+    assertThrows(NoSuchElementException.class, () -> deck.draw(buffer, 53));
+    assertThrows(IllegalArgumentException.class, () -> deck.draw(new Card[2], 3));
+    assertEquals(52, deck.remaining(), "A failed draw should not deal any cards");
+    deck.draw(buffer, 52);
+    assertThrows(NoSuchElementException.class, () -> deck.draw());
+    assertThrows(NoSuchElementException.class, () -> deck.peek());
+  }
+
+  @Test
+  void testReset_ShouldReturnDealtCardsAndShuffleShouldOnlyMoveRemainingCards() {
+    Card first = deck.draw();
+    deck.shuffle(new SplittableRandom(7));
+    deck.reset();
+    assertEquals(52, deck.remaining());
+    assertSame(first, deck.draw(), "Shuffling should not move cards which were already dealt");
+  }
+
+  @Test
+  void testLazy_ShouldDealEveryCardOfTheShoeOnce() {
+    Deck lazy = Deck.lazy(8, new SplittableRandom(3));
+    assertTrue(lazy.isLazy());
+    assertFalse(deck.isLazy());
+    int[] counts = new int[IntCard.COUNT];
+    for (int i = 0; i < 100; i++) {
+      counts[IntCard.encode(lazy.draw())]++;
+    }
+    counts[IntCard.encode(lazy.peek())]++;
+    lazy.burn();
+    assertEquals(415 - 100, lazy.remaining());
+    for (Card card : lazy.getDeck()) {
+      counts[IntCard.encode(card)]++;
+    }
+    for (int count : counts) {
+      assertEquals(8, count, "Every card should occur once per deck");
+    }
+  }
+
+  @Test
+  void testLazy_ShuffleShouldOnlyMoveRemainingCardsAndRepeatWithTheSameSeed() {
+    Deck lazy = Deck.lazy(DeckSpec.EUCHRE, 2, new SplittableRandom(11));
+    Card first = lazy.draw();
+    Card peeked = lazy.peek();
+    assertSame(peeked, lazy.draw());
+    lazy.shuffle();
+    lazy.reset();
+    assertSame(first, lazy.draw(), "Shuffling should not move cards which were already dealt");
+    assertEquals(Deck.lazy(DeckSpec.EUCHRE, 2, new SplittableRandom(11)).getDeck(),
+        Deck.lazy(DeckSpec.EUCHRE, 2, new SplittableRandom(11)).getDeck());
+  }
+
+  @Test
+  void testLazy_EveryCardShouldBeEquallyLikelyAtEveryPosition() {
+    Deck lazy = Deck.lazy(1, new SplittableRandom(5));
+    int trials = 52_000;
+    int[] topAces = new int[3];
+    for (int i = 0; i < trials; i++) {
+      lazy.reset();
+      lazy.shuffle();
+      for (int position = 0; position < topAces.length; position++) {
+        if (lazy.draw().getRank() == Rank.ACE) {
+          topAces[position]++;
+        }
+      }
+    }
+    for (int count : topAces) {
+      String message = "An Ace should be dealt 1/13 of the time. Instead: " + count;
+      assertTrue(Math.abs(count - trials / 13) < 200, message);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EquityCalculatorTest {
+
+  private ForkJoinPool pool;
+  private EquityCalculator calculator;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(4);
+    calculator = new EquityCalculator(pool, new SplittableRandom(11));
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+    pool = null;
+    calculator = null;
+  }
+
+  private static CardSet cards(String... cards) {
+    CardSet set = new CardSet();
+    for (String card : cards) {
+      Rank rank = null;
+      for (Rank r : Rank.values()) {
+        if (r.getLetter() == card.charAt(0)) {
+          rank = r;
+        }
+      }
+      set.add(IntCard.encode(rank, Suit.values()["cdsh".indexOf(card.charAt(1))]));
+    }
+    return set;
+  }
+
+  @Test
+  void testCalculate_AcesAgainstKingsPreflopShouldBeExact() {
+    EquityResult result = calculator.calculate(new CardSet(), new CardSet(),
+        cards("Ah", "As"), cards("Kd", "Kc"));
+    assertTrue(result.isExact(), "Two known hands preflop should be enumerated");
+    assertEquals(1_712_304, result.getTrials());
+    assertEquals(0, result.getMargin(0));
+    double equity = result.getEquity(0);
+    assertTrue(Math.abs(equity - 0.8126) < 0.001, "Aces should have about 81%. Instead: " + equity);
+    assertEquals(1.0, result.getEquity(0) + result.getEquity(1), 1e-9);
+  }
+
+  @Test
+  void testCalculate_CompleteBoardShouldHaveOneRunOut() {
+    EquityResult result = calculator.calculate(cards("2c", "7d", "9s", "Jh", "Kc"), new CardSet(),
+        cards("Ah", "As"), cards("Kd", "Ks"));
+    assertEquals(1, result.getTrials());
+    assertEquals(0.0, result.getEquity(0));
+    assertEquals(1.0, result.getWinFrequency(1));
+  }
+
+  @Test
+  void testCalculate_RoyalFlushOnTheBoardShouldSplitThePot() {
+    EquityResult result = calculator.calculate(cards("Ts", "Js", "Qs", "Ks", "As"), new CardSet(),
+        cards("2c", "3d"), cards("4c", "5d"), cards("7h", "8h"));
+    for (int p = 0; p < result.getPlayers(); p++) {
+      assertEquals(1.0 / 3, result.getEquity(p), 1e-9);
+      assertEquals(1.0, result.getTieFrequency(p));
+    }
+  }
+
+  @Test
+  void testCalculate_DeadCardsShouldNotBeDealt() {
+    CardSet dead = cards("Ac", "Ad", "As");
+    EquityResult result = calculator.calculate(cards("2c", "7d", "9s", "Jh"), dead,
+        cards("Kh", "Ks"), cards("Ah", "Qc"));
+    assertTrue(result.isExact());
+    assertEquals(52 - 4 - 3 - 4, result.getTrials());
+    assertEquals(0.0, result.getEquity(1), "The last three Aces are dead");
+  }
+
+  @Test
+  void testCalculate_UnknownHandShouldBeSampledWithinItsMargin() {
+    EquityResult result = calculator.calculate(200_000, new CardSet(), new CardSet(),
+        cards("Ah", "As"), new CardSet());
+    assertFalse(result.isExact(), "A random hand should be sampled");
+    assertEquals(200_000, result.getTrials());
+    double margin = result.getMargin(0);
+    assertTrue(margin > 0 && margin < 0.005, "The margin should be small. Instead: " + margin);
+    double equity = result.getEquity(0);
+    String message = "Aces should have about 85% against a random hand. Instead: " + equity;
+    assertTrue(Math.abs(equity - 0.852) < 3 * margin, message);
+  }
+
+  @Test
+  void testCalculate_SameSeedShouldGiveSameResultOnAnyPool() {
+    EquityResult first = calculator.calculate(50_000, cards("Kc", "8d", "3s"), new CardSet(),
+        cards("Ah", "Kh"), new CardSet(), new CardSet());
+    EquityResult second = new EquityCalculator(ForkJoinPool.commonPool(), new SplittableRandom(11))
+        .calculate(50_000, cards("Kc", "8d", "3s"), new CardSet(), cards("Ah", "Kh"),
+            new CardSet(), new CardSet());
+    assertEquals(first.getEquity(0), second.getEquity(0));
+    assertEquals(first.getEquity(2), second.getEquity(2));
+  }
+
+  @Test
+  void testCalculate_InvalidDealsShouldThrowIllegalArgumentException() {
+    CardSet none = new CardSet();
+    assertThrows(IllegalArgumentException.class,
+        () -> calculator.calculate(none, none, cards("Ah", "As"), cards("Ah", "Kd")));
+    assertThrows(IllegalArgumentException.class,
+        () -> calculator.calculate(none, none, cards("Ah", "As", "Ad")));
+    assertThrows(IllegalArgumentException.class,
+        () -> calculator.calculate(cards("Ah"), cards("Ah"), cards("Kd", "Ks")));
+    assertThrows(IllegalArgumentException.class, () -> calculator.calculate(none, none));
+  }
+}
@@ -0,0 +1,119 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HandSorterTest {
+
+  private HandSorter sorter;
+
+  private Card[] hand;
+
+  @BeforeEach
+  void setUp() {
+    sorter = new HandSorter();
+    hand = new Card[20];
+    new Deck(2, new SplittableRandom(17)).draw(hand, hand.length);
+  }
+
+  @Test
+  void testSortByRank_ShouldMatchCollectionsSort() {
+    List<Card> expected = new ArrayList<>(Arrays.asList(hand));
+    Collections.sort(expected);
+    Card[] out = new Card[hand.length];
+    sorter.sortByRank(hand, hand.length, out);
+    assertEquals(expected, Arrays.asList(out));
+  }
+
+  @Test
+  void testSortBySuit_ShouldMatchCodeOrder() {
+    List<Card> expected = new ArrayList<>(Arrays.asList(hand));
+    expected.sort(Comparator.comparingInt(IntCard::encode));
+    Card[] out = new Card[hand.length];
+    sorter.sortBySuit(hand, hand.length, out);
+    assertEquals(expected, Arrays.asList(out));
+  }
+
+  @Test
+  void testSortByValue_ShouldBeStable() {
+    List<Card> expected = new ArrayList<>(Arrays.asList(hand).subList(0, 12));
+    expected.sort(Comparator.comparingInt(Card::getValue));
+    Card[] out = new Card[hand.length];
+    sorter.sortByValue(hand, 12, out);
+    assertEquals(expected, Arrays.asList(out).subList(0, 12));
+  }
+
+  @Test
+  void testGroupBySuit_StartsShouldBoundEachSuit() {
+    Card[] out = new Card[hand.length];
+    int[] starts = new int[Suit.COUNT + 1];
+    sorter.groupBySuit(hand, hand.length, out, starts);
+    assertEquals(0, starts[0]);
+    assertEquals(hand.length, starts[Suit.COUNT]);
+    for (Suit suit : Suit.values()) {
+      List<Card> expected = new ArrayList<>();
+      for (Card card : hand) {
+        if (card.getSuit() == suit) {
+          expected.add(card);
+        }
+      }
+      int from = starts[suit.ordinal()];
+      assertEquals(expected, Arrays.asList(out).subList(from, starts[suit.ordinal() + 1]));
+    }
+  }
+
+  @Test
+  void testGroupByColor_ShouldPutRedBeforeBlack() {
+    Card[] out = new Card[hand.length];
+    int[] starts = new int[3];
+    sorter.groupByColor(hand, hand.length, out, starts);
+    for (int i = 0; i < hand.length; i++) {
+      CardColor expected = i < starts[1] ? CardColor.RED : CardColor.BLACK;
+      assertSame(expected, out[i].getColor());
+    }
+    assertEquals(hand.length, starts[2]);
+  }
+
+  @Test
+  void testHistograms_ShouldCountEveryCard() {
+    int[] ranks = new int[Rank.COUNT];
+    Arrays.fill(ranks, 9);
+    HandSorter.rankHistogram(hand, hand.length, ranks);
+    int[] suits = new int[Suit.COUNT];
+    HandSorter.suitHistogram(hand, hand.length, suits);
+    int[] expectedRanks = new int[Rank.COUNT];
+    int[] expectedSuits = new int[Suit.COUNT];
+    for (Card card : hand) {
+      expectedRanks[card.getRank().ordinal()]++;
+      expectedSuits[card.getSuit().ordinal()]++;
+    }
+    assertArrayEquals(expectedRanks, ranks);
+    assertArrayEquals(expectedSuits, suits);
+  }
+
+  @Test
+  void testSort_InvalidArgumentsShouldBeRejected() {
+    Card[] out = new Card[hand.length];
+    assertThrows(IllegalArgumentException.class, () -> sorter.sortByRank(hand, 21, out));
+    assertThrows(IllegalArgumentException.class, () -> sorter.sortByRank(hand, -1, out));
+    assertThrows(IllegalArgumentException.class, () -> sorter.sortByRank(hand, 5, hand));
+    assertThrows(IllegalArgumentException.class, () -> sorter.sortByRank(hand, 5, new Card[4]));
+    assertThrows(IllegalArgumentException.class,
+        () -> sorter.groupBySuit(hand, 5, out, new int[Suit.COUNT]));
+    assertThrows(IllegalArgumentException.class,
+        () -> HandSorter.rankHistogram(hand, 5, new int[3]));
+    assertThrows(NullPointerException.class, () -> sorter.sortBySuit(new Card[1], 1, out));
+  }
+}
@@ -0,0 +1,93 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IntDeckTest {
+
+  private IntDeck deck;
+
+  @BeforeEach
+  void setUp() {
+    deck = new IntDeck();
+  }
+
+  @AfterEach
+  void tearDown() {
+    deck = null;
+  }
+
+  @Test
+  void testDefaultConstructor_SingleDeckShouldContain52Cards() {
+    String message = "A single deck should contain 52 cards. Instead it has: " + deck.remaining();
+    assertEquals(52, deck.remaining(), message);
+  }
+
+  @Test
+  void testDefaultConstructor_ShouldMatchUnshuffledDeckOrder() {
+    String message = "An unshuffled IntDeck should deal in the same order as an unshuffled Deck";
+    assertEquals(new Deck().getDeck(), deck.toCards(), message);
+  }
+
+  @Test
+  void testDraw_ShouldAdvanceAndPeekShouldNot() {
+    int top = deck.peek();
+    assertEquals(top, deck.draw());
+    assertEquals(51, deck.remaining());
+    assertEquals(52, deck.size());
+  }
+
+  @Test
+  void testDraw_EmptyDeckShouldThrowNoSuchElementException() {
+    String message = "Drawing from an empty deck should throw NoSuchElementException";
+    for (int i = 0; i < 52; i++) {
+      deck.draw();
+    }
+    assertThrows(NoSuchElementException.class, () -> deck.draw(), message);
+    assertThrows(NoSuchElementException.class, () -> deck.peek(), message);
+  }
+
+  @Test
+  void testShuffle_ShouldOnlyPermuteRemainingCards() {
+    IntDeck twoDecks = new IntDeck(2, false);
+    int first = twoDecks.draw();
+    twoDecks.shuffle(new Random(42));
+    int[] counts = new int[IntCard.COUNT];
+    counts[first]++;
+    while (twoDecks.remaining() > 0) {
+      counts[twoDecks.draw()]++;
+    }
+    for (int count : counts) {
+      assertEquals(2, count, "Every card should appear exactly twice in a double deck");
+    }
+    twoDecks.reset();
+    assertEquals(first, twoDecks.draw(), "Reset should not move the dealt card");
+  }
+
+  @Test
+  void testCollectionConstructor_ShouldRoundTripCards() {
+    List<Card> cards = new Deck(1, true).getDeck();
+    IntDeck copy = new IntDeck(cards);
+    assertEquals(cards, copy.toCards());
+    assertSame(cards.get(0), copy.drawCard());
+  }
+
+  @Test
+  void testEncode_ShouldMatchRankAndSuit() {
+    Card card = new PlayingCard(Rank.QUEEN, Suit.SPADES);
+    int code = IntCard.encode(card);
+    assertEquals(Rank.QUEEN, IntCard.rank(code));
+    assertEquals(Suit.SPADES, IntCard.suit(code));
+    assertEquals(10, IntCard.value(code));
+    assertSame(PlayingCard.of(Rank.QUEEN, Suit.SPADES), IntCard.decode(code));
+  }
+}
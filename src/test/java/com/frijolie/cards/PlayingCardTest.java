@@ -2,6 +2,7 @@ package com.frijolie.cards;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -188,6 +189,35 @@ class PlayingCardTest {
     assertTrue(aceOfHearts.sameValue(aceOfSpades));
   }
 
+  @Test
+  void testOf_SameRankAndSuitShouldReturnSameInstance() {
+    String message = "PlayingCard.of should always return the canonical instance";
+    PlayingCard first = PlayingCard.of(Rank.ACE, Suit.HEARTS);
+    assertSame(first, PlayingCard.of(Rank.ACE, Suit.HEARTS), message);
+  }
+
+  @Test
+  void testOf_OrdinalShouldRoundTrip() {
+    for (int i = 0; i < PlayingCard.COUNT; i++) {
+      String message = "Was expecting ordinal " + i + ", instead it was: "
+          + PlayingCard.of(i).getOrdinal();
+      assertEquals(i, PlayingCard.of(i).getOrdinal(), message);
+    }
+  }
+
+  @Test
+  void testGetOrdinal_TwoOfClubsShouldBe_0_AceOfHeartsShouldBe_51() {
+    assertEquals(0, PlayingCard.of(Rank.TWO, Suit.CLUBS).getOrdinal());
+    assertEquals(51, aceOfHearts.getOrdinal());
+  }
+
+  @Test
+  void testEquals_ConstructedCardShouldEqualCanonicalCard() {
+    String message = "A constructed Ace of Hearts should equal the canonical Ace of Hearts";
+    assertEquals(PlayingCard.of(Rank.ACE, Suit.HEARTS), aceOfHearts, message);
+    assertEquals(PlayingCard.of(Rank.ACE, Suit.HEARTS).hashCode(), aceOfHearts.hashCode(), message);
+  }
+
   private Rank randomRank() {
     return Rank.values()[new Random().nextInt(Rank.values().length)];
   }
@@ -0,0 +1,119 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class PokerHandEvaluatorTest {
+
+  private static int evaluate(String... cards) {
+    int[] codes = new int[cards.length];
+    for (int i = 0; i < cards.length; i++) {
+      codes[i] = code(cards[i]);
+    }
+    return PokerHandEvaluator.evaluate(codes);
+  }
+
+  private static int code(String card) {
+    Rank rank = null;
+    for (Rank r : Rank.values()) {
+      if (r.getLetter() == card.charAt(0)) {
+        rank = r;
+      }
+    }
+    Suit suit = Suit.values()["cdsh".indexOf(card.charAt(1))];
+    return IntCard.encode(rank, suit);
+  }
+
+  @Test
+  void testEvaluate_AllFiveCardHandsShouldMatchKnownCategoryCounts() {
+    long[] counts = new long[HandCategory.values().length];
+    for (int a = 0; a < 52; a++) {
+      for (int b = a + 1; b < 52; b++) {
+        for (int c = b + 1; c < 52; c++) {
+          for (int d = c + 1; d < 52; d++) {
+            for (int e = d + 1; e < 52; e++) {
+              long hand = 1L << a | 1L << b | 1L << c | 1L << d | 1L << e;
+              counts[HandCategory.of(PokerHandEvaluator.evaluate(hand)).ordinal()]++;
+            }
+          }
+        }
+      }
+    }
+    long[] expected = {1302540, 1098240, 123552, 54912, 10200, 5108, 3744, 624, 40};
+    for (HandCategory category : HandCategory.values()) {
+      String message = category + " should occur " + expected[category.ordinal()] + " times";
+      assertEquals(expected[category.ordinal()], counts[category.ordinal()], message);
+    }
+  }
+
+  @Test
+  void testEvaluate_SevenCardsShouldEqualBestFiveCardSubset() {
+    SplittableRandom random = new SplittableRandom(17);
+    for (int trial = 0; trial < 20_000; trial++) {
+      long hand = 0;
+      while (Long.bitCount(hand) < 7) {
+        hand |= 1L << random.nextInt(52);
+      }
+      int[] codes = new int[7];
+      long remaining = hand;
+      for (int i = 0; i < 7; i++) {
+        codes[i] = Long.numberOfTrailingZeros(remaining);
+        remaining &= remaining - 1;
+      }
+      int best = 0;
+      for (int skipA = 0; skipA < 7; skipA++) {
+        for (int skipB = skipA + 1; skipB < 7; skipB++) {
+          long five = hand & ~(1L << codes[skipA]) & ~(1L << codes[skipB]);
+          best = Math.max(best, PokerHandEvaluator.evaluate(five));
+        }
+      }
+      assertEquals(best, PokerHandEvaluator.evaluate(hand), new CardSet(hand).toString());
+    }
+  }
+
+  @Test
+  void testEvaluate_ShouldOrderHandsWithinCategories() {
+    assertTrue(evaluate("As", "Kd", "Qh", "Jc", "9s") > evaluate("As", "Kd", "Qh", "Jc", "8s"));
+    assertTrue(evaluate("2s", "2d", "Ah", "Kc", "Qs") > evaluate("2s", "2d", "Ah", "Kc", "Js"));
+    assertTrue(evaluate("5s", "4d", "3h", "2c", "As") < evaluate("6s", "5d", "4h", "3c", "2s"));
+    assertTrue(evaluate("Ts", "Td", "Th", "2c", "2s") > evaluate("9s", "9d", "9h", "Ac", "As"));
+    assertEquals(HandCategory.STRAIGHT_FLUSH,
+        HandCategory.of(evaluate("Ah", "Kh", "Qh", "Jh", "Th", "2c", "2d")));
+    assertEquals(HandCategory.FULL_HOUSE,
+        HandCategory.of(evaluate("Ah", "Ac", "Ad", "Kh", "Kc", "Qd", "Qh")));
+    assertEquals(HandCategory.TWO_PAIR,
+        HandCategory.of(evaluate("Ah", "Ac", "Kd", "Kh", "Qc", "Qd", "2h")));
+    assertEquals("Two Pair", HandCategory.TWO_PAIR.toString());
+  }
+
+  @Test
+  void testEvaluate_CardArrayShouldMatchCodes() {
+    Card[] hand = {
+        PlayingCard.of(Rank.ACE, Suit.SPADES), PlayingCard.of(Rank.ACE, Suit.HEARTS),
+        PlayingCard.of(Rank.SEVEN, Suit.CLUBS), PlayingCard.of(Rank.SEVEN, Suit.DIAMONDS),
+        PlayingCard.of(Rank.SEVEN, Suit.HEARTS)};
+    assertEquals(evaluate("As", "Ah", "7c", "7d", "7h"), PokerHandEvaluator.evaluate(hand));
+    assertEquals(PokerHandEvaluator.evaluate(hand),
+        PokerHandEvaluator.evaluate(new CardSet(java.util.Arrays.asList(hand))));
+  }
+
+  @Test
+  void testEvaluate_InvalidHandsShouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> evaluate("As", "Ks", "Qs", "Js"));
+    assertThrows(IllegalArgumentException.class,
+        () -> evaluate("As", "As", "Qs", "Js", "Ts"));
+    assertThrows(IllegalArgumentException.class, () -> PokerHandEvaluator.evaluate(-1L));
+  }
+
+  @Test
+  void testEvaluate_CodeOutOfRangeShouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> PokerHandEvaluator.evaluate(0, 1, 2, 3, 68));
+    assertThrows(IllegalArgumentException.class, () -> PokerHandEvaluator.evaluate(0, 1, 2, 3, 52));
+    assertThrows(IllegalArgumentException.class, () -> PokerHandEvaluator.evaluate(0, 1, 2, 3, -1));
+  }
+}
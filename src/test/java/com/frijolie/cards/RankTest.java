@@ -0,0 +1,42 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RankTest {
+
+  @Test
+  void testFromOrdinal_ShouldMatchValues() {
+    assertEquals(Rank.values().length, Rank.COUNT);
+    for (Rank rank : Rank.values()) {
+      assertSame(rank, Rank.fromOrdinal(rank.ordinal()));
+    }
+    assertThrows(IllegalArgumentException.class, () -> Rank.fromOrdinal(13));
+    assertThrows(IllegalArgumentException.class, () -> Rank.fromOrdinal(-1));
+  }
+
+  @Test
+  void testFromLetter_ShouldAcceptEitherCase() {
+    for (Rank rank : Rank.values()) {
+      assertSame(rank, Rank.fromLetter(rank.getLetter()));
+      assertSame(rank, Rank.fromLetter(Character.toLowerCase(rank.getLetter())));
+    }
+    assertThrows(IllegalArgumentException.class, () -> Rank.fromLetter('X'));
+    assertThrows(IllegalArgumentException.class, () -> Rank.fromLetter('♠'));
+  }
+
+  @Test
+  void testWithValue_TenShouldHoldTheTenAndFaceCards() {
+    assertEquals(List.of(Rank.TEN, Rank.JACK, Rank.QUEEN, Rank.KING), Rank.withValue(10));
+    assertEquals(List.of(Rank.ACE), Rank.withValue(11));
+    assertTrue(Rank.withValue(1).isEmpty(), "No rank has a value of 1");
+    assertTrue(Rank.withValue(99).isEmpty(), "No rank has a value of 99");
+    assertThrows(UnsupportedOperationException.class, () -> Rank.withValue(10).clear());
+  }
+}
@@ -0,0 +1,107 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class RunningCountTest {
+
+  @Test
+  void testCountSystems_BalancedSystemsShouldSumToZeroOverADeck() {
+    assertTrue(CountSystem.HI_LO.isBalanced(), "Hi-Lo should be balanced");
+    assertTrue(CountSystem.OMEGA_II.isBalanced(), "Omega II should be balanced");
+    assertFalse(CountSystem.KO.isBalanced(), "KO should be unbalanced");
+    assertEquals(0, CountSystem.HI_LO.initialCount(6));
+    assertEquals(-20, CountSystem.KO.initialCount(6), "KO should start at -4 per extra deck");
+  }
+
+  @Test
+  void testWeight_RankShouldMatchEveryCardOfThatRank() {
+    for (Rank rank : Rank.values()) {
+      for (Suit suit : Suit.values()) {
+        PlayingCard card = PlayingCard.of(rank, suit);
+        assertEquals(CountSystem.OMEGA_II.weight(card), CountSystem.OMEGA_II.weight(rank));
+        assertEquals(CountSystem.OMEGA_II.weight(card.getOrdinal()),
+            CountSystem.OMEGA_II.weight(rank));
+      }
+    }
+  }
+
+  @Test
+  void testCountSystem_WrongNumberOfWeightsShouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new CountSystem("Short", 1, 0, -1));
+  }
+
+  @Test
+  void testCardDrawn_FullDeckShouldEndAtZeroForBalancedSystems() {
+    Deck deck = new Deck(1, new SplittableRandom(3));
+    RunningCount hiLo = new RunningCount(CountSystem.HI_LO, 1);
+    RunningCount omega = new RunningCount(CountSystem.OMEGA_II, 1);
+    deck.addDealListener(hiLo);
+    deck.addDealListener(omega);
+    int expected = 0;
+    while (deck.remaining() > 0) {
+      Card card = deck.draw();
+      expected += CountSystem.HI_LO.weight(card.getRank());
+      assertEquals(expected, hiLo.getRunningCount());
+    }
+    assertEquals(0, hiLo.getRunningCount(), "A full Hi-Lo deck should count to zero");
+    assertEquals(0, omega.getRunningCount(), "A full Omega II deck should count to zero");
+    assertEquals(0, hiLo.getRemaining());
+  }
+
+  @Test
+  void testGetTrueCount_ShouldDivideByRemainingDecks() {
+    RunningCount count = new RunningCount(CountSystem.HI_LO, 2);
+    for (int i = 0; i < 52; i++) {
+      count.count(IntCard.encode(Rank.TWO, Suit.CLUBS));
+    }
+    assertEquals(52, count.getRunningCount());
+    assertEquals(1.0, count.getRemainingDecks(), 1e-9);
+    assertEquals(52.0, count.getTrueCount(), 1e-9);
+  }
+
+  @Test
+  void testCardBurned_ShouldReduceRemainingWithoutCounting() {
+    Shoe shoe = new Shoe(1, 0.75, new SplittableRandom(5));
+    RunningCount count = new RunningCount(CountSystem.HI_LO, shoe);
+    shoe.burn();
+    assertEquals(0, count.getRunningCount(), "A burned card should not be counted");
+    assertEquals(51, count.getRemaining());
+  }
+
+  @Test
+  void testShuffled_ReshuffleShouldRestartTheCount() {
+    Shoe shoe = new Shoe(2, 0.5, new SplittableRandom(7));
+    RunningCount count = new RunningCount(CountSystem.KO, shoe);
+    for (int i = 0; i < 60; i++) {
+      shoe.draw();
+    }
+    shoe.reshuffle();
+    assertEquals(CountSystem.KO.initialCount(2), count.getRunningCount());
+    assertEquals(104, count.getRemaining());
+  }
+
+  @Test
+  void testShuffled_MidShoeShuffleShouldKeepTheCount() {
+    Deck deck = new Deck(2, new SplittableRandom(8));
+    RunningCount count = new RunningCount(CountSystem.HI_LO, 2);
+    deck.addDealListener(count);
+    for (int i = 0; i < 30; i++) {
+      deck.draw();
+    }
+    int running = count.getRunningCount();
+    deck.shuffle();
+    assertEquals(running, count.getRunningCount(), "Dealt cards are still out of play");
+    assertEquals(74, count.getRemaining());
+    deck.reset();
+    deck.shuffle();
+    assertEquals(CountSystem.HI_LO.initialCount(2), count.getRunningCount());
+    assertEquals(104, count.getRemaining());
+  }
+}
@@ -0,0 +1,112 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class SeededShuffleTest {
+
+  @Test
+  void testToDeck_FisherYatesShouldMatchASeededDeck() {
+    SeededShuffle shuffle = new SeededShuffle(42L, 6, ShuffleAlgorithm.FISHER_YATES);
+    List<Card> expected = new Deck(6, new SplittableRandom(42L)).getDeck();
+    assertEquals(expected, shuffle.toDeck().getDeck());
+    assertEquals(expected, shuffle.toIntDeck().toCards());
+  }
+
+  @Test
+  void testToIntDeck_RecordedVersionsShouldNeverChangeTheirOrder() {
+    int[] fisherYates = {
+        40, 29, 45, 34, 24, 7, 28, 35, 48, 16, 1, 36, 31, 5, 30, 51, 11, 44, 10, 2, 0, 32, 14, 43,
+        22, 18, 37, 41, 19, 13, 46, 33, 3, 26, 25, 47, 38, 8, 23, 9, 42, 21, 20, 15, 12, 6, 27, 49,
+        50, 39, 17, 4};
+    int[] feistel = {
+        2, 34, 23, 15, 1, 18, 37, 32, 13, 36, 8, 5, 6, 48, 12, 43, 42, 19, 26, 40, 47, 30, 27, 38,
+        14, 16, 22, 0, 11, 7, 35, 17, 28, 25, 29, 20, 49, 3, 50, 46, 21, 31, 39, 10, 51, 24, 9, 4,
+        44, 41, 33, 45};
+    assertArrayEquals(fisherYates,
+        codes(new SeededShuffle(2026L, 1, ShuffleAlgorithm.FISHER_YATES)));
+    assertArrayEquals(feistel, codes(new SeededShuffle(2026L, 1, ShuffleAlgorithm.FEISTEL)));
+  }
+
+  /**
+   * Returns the codes of a shuffled shoe, in the order they are dealt.
+   */
+  private static int[] codes(SeededShuffle shuffle) {
+    IntDeck deck = shuffle.toIntDeck();
+    int[] codes = new int[deck.size()];
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = deck.draw();
+    }
+    return codes;
+  }
+
+  @Test
+  void testCardAt_ShouldMatchTheBuiltDeckForEveryAlgorithm() {
+    for (ShuffleAlgorithm algorithm : ShuffleAlgorithm.values()) {
+      for (int numOfDecks = 1; numOfDecks <= 8; numOfDecks++) {
+        SeededShuffle shuffle = new SeededShuffle(-7L * numOfDecks, numOfDecks, algorithm);
+        List<Card> deck = shuffle.toDeck().getDeck();
+        assertEquals(shuffle.toIntDeck().toCards(), deck);
+        for (int position = 0; position < shuffle.size(); position++) {
+          assertEquals(deck.get(position), shuffle.cardAt(position), algorithm + " " + position);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testToDeck_FeistelShouldHoldEveryCardOncePerDeck() {
+    SeededShuffle shuffle = new SeededShuffle(3L, 6, ShuffleAlgorithm.FEISTEL);
+    int[] counts = new int[IntCard.COUNT];
+    IntDeck deck = shuffle.toIntDeck();
+    while (deck.remaining() > 0) {
+      counts[deck.draw()]++;
+    }
+    for (int count : counts) {
+      assertEquals(6, count);
+    }
+    assertNotEquals(new Deck(6, false).getDeck(), shuffle.toDeck().getDeck());
+    assertNotEquals(shuffle.toDeck().getDeck(),
+        new SeededShuffle(4L, 6, ShuffleAlgorithm.FEISTEL).toDeck().getDeck());
+  }
+
+  @Test
+  void testGameSeed_ShouldSkipAheadInTheSeedStream() {
+    SplittableRandom stream = new SplittableRandom(99L);
+    List<Long> seeds = new ArrayList<>();
+    for (int game = 0; game < 100; game++) {
+      seeds.add(stream.nextLong());
+    }
+    for (int game = 0; game < 100; game++) {
+      assertEquals(seeds.get(game), SeededShuffle.gameSeed(99L, game));
+    }
+    assertEquals(new SeededShuffle(seeds.get(57), 2, ShuffleAlgorithm.FEISTEL),
+        SeededShuffle.forGame(99L, 57, 2, ShuffleAlgorithm.FEISTEL));
+  }
+
+  @Test
+  void testFromVersion_ShouldResolveRecordedVersions() {
+    for (ShuffleAlgorithm algorithm : ShuffleAlgorithm.values()) {
+      assertEquals(algorithm, ShuffleAlgorithm.fromVersion(algorithm.getVersion()));
+    }
+    assertThrows(IllegalArgumentException.class, () -> ShuffleAlgorithm.fromVersion(0));
+  }
+
+  @Test
+  void testConstructor_InvalidArgumentsShouldBeRejected() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new SeededShuffle(1L, 0, ShuffleAlgorithm.FEISTEL));
+    assertThrows(NullPointerException.class, () -> new SeededShuffle(1L, 1, null));
+    SeededShuffle shuffle = new SeededShuffle(1L, 1, ShuffleAlgorithm.FEISTEL);
+    assertThrows(IllegalArgumentException.class, () -> shuffle.cardAt(52));
+    assertThrows(IllegalArgumentException.class, () -> shuffle.cardAt(-1));
+  }
+}
@@ -0,0 +1,111 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ShoeTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    executor = null;
+  }
+
+  @Test
+  void testConstructor_SixDecksAtThreeQuartersShouldPlaceCutCardAt_234() {
+    Shoe shoe = new Shoe(6, 0.75);
+    String message = "The cut card should be 234 cards in. Instead it is: " + shoe.getCutCard();
+    assertEquals(234, shoe.getCutCard(), message);
+    assertEquals(312, shoe.size());
+    assertEquals(6, shoe.getNumOfDecks());
+  }
+
+  @Test
+  void testConstructor_OutOfRangeArgumentsShouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new Shoe(0, 0.5));
+    assertThrows(IllegalArgumentException.class, () -> new Shoe(1, 0));
+    assertThrows(IllegalArgumentException.class, () -> new Shoe(1, 1.5));
+  }
+
+  @Test
+  void testReshuffleIfNeeded_ShouldOnlyReshuffleOnceCutCardIsReached() {
+    Shoe shoe = new Shoe(1, 0.5, new SplittableRandom(1));
+    for (int i = 0; i < 25; i++) {
+      shoe.draw();
+    }
+    assertFalse(shoe.isCutCardReached());
+    assertFalse(shoe.reshuffleIfNeeded(), "The shoe should not reshuffle before the cut card");
+    shoe.burn();
+    assertTrue(shoe.isCutCardReached());
+    assertTrue(shoe.reshuffleIfNeeded(), "The shoe should reshuffle after the cut card");
+    assertEquals(52, shoe.remaining());
+    assertEquals(0, shoe.dealt());
+  }
+
+  @Test
+  void testDraw_EmptyShoeShouldReshuffleInTheBackground() {
+    Shoe shoe = new Shoe(2, 1.0, new SplittableRandom(3), executor);
+    List<Card> first = new ArrayList<>();
+    for (int i = 0; i < shoe.size(); i++) {
+      first.add(shoe.draw());
+    }
+    assertEquals(0, shoe.remaining());
+    List<Card> second = new ArrayList<>();
+    for (int i = 0; i < shoe.size(); i++) {
+      second.add(shoe.draw());
+    }
+    assertNotEquals(first, second, "Each shoe should be shuffled independently");
+    second.sort(null);
+    first.sort(null);
+    assertEquals(first, second, "Each shoe should hold the same cards");
+  }
+
+  @Test
+  void testReshuffle_ListenersShouldSeeTheSameEventsWithOrWithoutAnExecutor() {
+    Shoe inline = new Shoe(1, 0.5, new SplittableRandom(4));
+    Shoe background = new Shoe(1, 0.5, new SplittableRandom(4), executor);
+    assertEquals(reshuffleEvents(inline), reshuffleEvents(background));
+    assertEquals(List.of("reset 52", "shuffled 52"), reshuffleEvents(background));
+  }
+
+  /**
+   * Deals a card, reshuffles, and returns the events a listener saw during the reshuffle.
+   */
+  private static List<String> reshuffleEvents(Shoe shoe) {
+    List<String> events = new ArrayList<>();
+    shoe.draw();
+    shoe.addDealListener(new DealListener() {
+      @Override
+      public void shuffled(int remaining) {
+        events.add("shuffled " + remaining);
+      }
+
+      @Override
+      public void reset(int remaining) {
+        events.add("reset " + remaining);
+      }
+    });
+    shoe.reshuffle();
+    return events;
+  }
+}
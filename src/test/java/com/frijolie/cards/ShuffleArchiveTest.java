@@ -0,0 +1,145 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ShuffleArchiveTest {
+
+  @TempDir
+  Path directory;
+
+  private static List<Card> shuffled(int numOfDecks, long seed) {
+    return new Deck(numOfDecks, new SplittableRandom(seed)).getDeck();
+  }
+
+  @Test
+  void testRead_GamesShouldSurviveReopening() throws IOException {
+    Path file = directory.resolve("games.dat");
+    try (ShuffleArchive archive = new ShuffleArchive(file)) {
+      assertEquals(0, archive.append(shuffled(1, 1)));
+      assertEquals(1, archive.appendSeeded(6, 2));
+      assertEquals(2, archive.append(shuffled(2, 3)));
+      assertEquals(3, archive.append(new SeededShuffle(4, 8, ShuffleAlgorithm.FEISTEL)));
+    }
+    try (ShuffleArchive archive = new ShuffleArchive(file, true)) {
+      assertEquals(4, archive.size());
+      assertEquals(new SeededShuffle(4, 8, ShuffleAlgorithm.FEISTEL).toDeck().getDeck(),
+          archive.read(3).toCards());
+      assertEquals(shuffled(2, 3), archive.read(2).toCards());
+      assertEquals(shuffled(6, 2), archive.read(1).toCards());
+      assertEquals(shuffled(1, 1), archive.read(0).toCards());
+    }
+  }
+
+  @Test
+  void testRead_RecordsSpanningMappingsShouldBeReassembled() throws IOException {
+    try (ShuffleArchive archive = new ShuffleArchive(directory.resolve("small.dat"), false, 64)) {
+      for (int i = 0; i < 20; i++) {
+        archive.append(shuffled(1 + i % 3, i));
+      }
+      for (int i = 19; i >= 0; i--) {
+        assertEquals(shuffled(1 + i % 3, i), archive.read(i).toCards(), "Game " + i);
+      }
+    }
+  }
+
+  @Test
+  void testConstructor_TornAppendShouldBeDiscarded() throws IOException {
+    Path file = directory.resolve("torn.dat");
+    try (ShuffleArchive archive = new ShuffleArchive(file)) {
+      for (int i = 0; i < 3; i++) {
+        archive.append(shuffled(1, i));
+      }
+    }
+    long size = Files.size(file);
+    try (FileChannel data = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      data.truncate(size - 5);
+    }
+    Files.write(directory.resolve("torn.dat.idx"), new byte[10], StandardOpenOption.APPEND);
+    try (ShuffleArchive archive = new ShuffleArchive(file)) {
+      assertEquals(2, archive.size(), "The game missing its last bytes should be dropped");
+      assertEquals(3 - 1, archive.append(shuffled(1, 9)));
+      assertEquals(shuffled(1, 9), archive.read(2).toCards());
+    }
+    assertEquals(48, Files.size(directory.resolve("torn.dat.idx")));
+  }
+
+  @Test
+  void testConstructor_SecondWriterShouldBeLockedOut() throws IOException {
+    Path file = directory.resolve("locked.dat");
+    try (ShuffleArchive archive = new ShuffleArchive(file)) {
+      archive.appendSeeded(1, 1);
+      assertThrows(IOException.class, () -> new ShuffleArchive(file));
+      try (ShuffleArchive reader = new ShuffleArchive(file, true)) {
+        assertEquals(1, reader.size(), "Readers should not need the lock");
+      }
+      assertEquals(1, archive.appendSeeded(1, 2));
+    }
+    try (ShuffleArchive archive = new ShuffleArchive(file)) {
+      assertEquals(2, archive.size(), "Closing should release the lock");
+    }
+  }
+
+  @Test
+  void testRead_CorruptRecordShouldFailItsChecksum() throws IOException {
+    Path file = directory.resolve("corrupt.dat");
+    try (ShuffleArchive archive = new ShuffleArchive(file)) {
+      archive.append(shuffled(1, 1));
+      archive.append(shuffled(1, 2));
+    }
+    try (FileChannel data = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      data.write(ByteBuffer.wrap(new byte[] {7}), 10);
+    }
+    try (ShuffleArchive archive = new ShuffleArchive(file, true)) {
+      assertThrows(IOException.class, () -> archive.read(0));
+      assertEquals(shuffled(1, 2), archive.read(1).toCards());
+      assertThrows(IllegalArgumentException.class, () -> archive.read(2));
+      assertThrows(IllegalStateException.class, () -> archive.appendSeeded(1, 1));
+    }
+  }
+
+  @Test
+  void testRead_ReadersShouldSeeGamesWhileTheyAreAppended() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try (ShuffleArchive archive = new ShuffleArchive(directory.resolve("live.dat"), false, 4096)) {
+      List<Future<?>> readers = new ArrayList<>();
+      for (int r = 0; r < 3; r++) {
+        readers.add(executor.submit(() -> {
+          SplittableRandom random = new SplittableRandom();
+          while (archive.size() < 500) {
+            long size = archive.size();
+            if (size > 0) {
+              long id = random.nextLong(size);
+              assertEquals(52, archive.read(id).remaining());
+            }
+          }
+          return null;
+        }));
+      }
+      for (int i = 0; i < 500; i++) {
+        archive.append(shuffled(1, i));
+      }
+      for (Future<?> reader : readers) {
+        reader.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SimulationTest {
+
+  private ForkJoinPool pool;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+    pool = null;
+  }
+
+  /**
+   * Outcome 1 if the first card dealt is an Ace.
+   */
+  private static int firstCardIsAce(Deck deck) {
+    return deck.draw().getRank() == Rank.ACE ? 1 : 0;
+  }
+
+  @Test
+  void testRun_AceOnTopShouldOccurAboutOneTimeInThirteen() {
+    Simulation simulation = new Simulation(1, 2, pool, new SplittableRandom(5));
+    SimulationResult result = simulation.run(200_000, SimulationTest::firstCardIsAce);
+    assertEquals(200_000, result.getTrials());
+    assertEquals(200_000, result.getCount(0) + result.getCount(1));
+    double frequency = result.getFrequency(1);
+    String message = "An Ace should be on top 1/13 of the time. Instead: " + frequency;
+    assertTrue(Math.abs(frequency - 1.0 / 13) < 0.005, message);
+  }
+
+  @Test
+  void testRun_SameSeedShouldGiveSameCountsOnAnyPool() {
+    SimulationResult first = new Simulation(6, 2, pool, new SplittableRandom(9))
+        .run(50_000, SimulationTest::firstCardIsAce);
+    SimulationResult second = new Simulation(6, 2, ForkJoinPool.commonPool(),
+        new SplittableRandom(9)).run(50_000, SimulationTest::firstCardIsAce);
+    assertArrayEquals(first.getCounts(), second.getCounts());
+  }
+
+  @Test
+  void testRun_OutcomeOutOfRangeShouldThrowIllegalArgumentException() {
+    Simulation simulation = new Simulation(1, 2);
+    assertThrows(IllegalArgumentException.class, () -> simulation.run(10, deck -> 2));
+    assertThrows(IllegalArgumentException.class, () -> simulation.run(-1, deck -> 0));
+    assertEquals(0, simulation.run(0, deck -> 0).getFrequency(0));
+  }
+}
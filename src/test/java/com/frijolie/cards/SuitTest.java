@@ -0,0 +1,39 @@
+package com.frijolie.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SuitTest {
+
+  @Test
+  void testFromOrdinal_ShouldMatchValues() {
+    assertEquals(Suit.values().length, Suit.COUNT);
+    for (Suit suit : Suit.values()) {
+      assertSame(suit, Suit.fromOrdinal(suit.ordinal()));
+    }
+    assertThrows(IllegalArgumentException.class, () -> Suit.fromOrdinal(4));
+  }
+
+  @Test
+  void testFromSymbol_ShouldAcceptBlackAndWhiteSymbols() {
+    for (Suit suit : Suit.values()) {
+      assertSame(suit, Suit.fromSymbol(suit.getSymbol()));
+    }
+    assertSame(Suit.CLUBS, Suit.fromSymbol('♧'));
+    assertSame(Suit.DIAMONDS, Suit.fromSymbol('♢'));
+    assertSame(Suit.SPADES, Suit.fromSymbol('♤'));
+    assertSame(Suit.HEARTS, Suit.fromSymbol('♡'));
+    assertThrows(IllegalArgumentException.class, () -> Suit.fromSymbol('s'));
+  }
+
+  @Test
+  void testWithColor_ShouldGroupSuitsByColor() {
+    assertEquals(List.of(Suit.DIAMONDS, Suit.HEARTS), Suit.withColor(CardColor.RED));
+    assertEquals(List.of(Suit.CLUBS, Suit.SPADES), CardColor.BLACK.getSuits());
+  }
+}